@@ -1,5 +1,7 @@
 package com.bwc.approval_workflow_service.client;
 
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -11,4 +13,7 @@ import com.bwc.approval_workflow_service.dto.NotificationRequestDTO;
 public interface NotificationServiceClient {
     @PostMapping("/api/notifications")
     void sendNotification(@RequestBody NotificationRequestDTO notificationRequest);
+
+    @PostMapping("/api/notifications/batch")
+    void sendNotifications(@RequestBody List<NotificationRequestDTO> notificationRequests);
 }
@@ -8,9 +8,11 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.bwc.approval_workflow_service.dto.BookingDocumentDTO;
+import com.bwc.approval_workflow_service.dto.BulkStatusUpdateResultDTO;
 import com.bwc.approval_workflow_service.dto.BookingSummaryDTO;
 import com.bwc.approval_workflow_service.dto.TravelBookingDTO;
 import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
+import com.bwc.approval_workflow_service.dto.TravelRequestStatusUpdateDTO;
 
 @FeignClient(name = "travel-request-service", url = "${services.travel-request.url:http://localhost:8080}")
 public interface TravelRequestServiceClient {
@@ -65,6 +67,9 @@ public interface TravelRequestServiceClient {
     @PostMapping("/api/travel-requests/{id}/status")
     void updateRequestStatus(@PathVariable UUID id, @RequestParam String status);
 
+    @PostMapping("/api/travel-requests/status/bulk")
+    BulkStatusUpdateResultDTO updateRequestStatuses(@RequestBody List<TravelRequestStatusUpdateDTO> updates);
+
     @GetMapping("/api/travel-requests/{id}")
     TravelRequestProxyDTO getTravelRequest(@PathVariable("id") UUID id);
 
@@ -9,18 +9,44 @@ import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CacheConfig {
+
+    public static final String EMPLOYEES = "employees";
+    public static final String TRAVEL_REQUESTS = "travelRequests";
+    public static final String APPROVERS_BY_ROLE = "approversByRole";
+
     @Bean
-    public Caffeine<Object, Object> caffeineConfig() {
+    public Caffeine<Object, Object> caffeineConfig(WorkflowProperties properties) {
+        WorkflowProperties.Cache settings = properties.getCache();
         return Caffeine.newBuilder()
-                .expireAfterWrite(30, TimeUnit.MINUTES)
-                .maximumSize(1000);
+                .expireAfterWrite(settings.getDefaultTtlSeconds(), TimeUnit.SECONDS)
+                .maximumSize(settings.getDefaultMaxSize())
+                .recordStats();
     }
 
     @Bean
-    public CacheManager cacheManager(Caffeine<Object, Object> caffeine) {
-        CaffeineCacheManager manager = new CaffeineCacheManager(
-                "workflowConfigs", "employees", "policies");
+    public CacheManager cacheManager(Caffeine<Object, Object> caffeine, WorkflowProperties properties) {
+        WorkflowProperties.Cache settings = properties.getCache();
+        CaffeineCacheManager manager = new CaffeineCacheManager();
         manager.setCaffeine(caffeine);
+
+        // Registered up front so the cache metrics binder picks them up at startup
+        manager.registerCustomCache(EMPLOYEES, Caffeine.newBuilder()
+                .expireAfterWrite(settings.getEmployeesTtlSeconds(), TimeUnit.SECONDS)
+                .maximumSize(settings.getEmployeesMaxSize())
+                .recordStats()
+                .build());
+        manager.registerCustomCache(TRAVEL_REQUESTS, Caffeine.newBuilder()
+                .expireAfterWrite(settings.getTravelRequestsTtlSeconds(), TimeUnit.SECONDS)
+                .maximumSize(settings.getTravelRequestsMaxSize())
+                .recordStats()
+                .build());
+        manager.registerCustomCache(APPROVERS_BY_ROLE, Caffeine.newBuilder()
+                .expireAfterWrite(settings.getApproversByRoleTtlSeconds(), TimeUnit.SECONDS)
+                .maximumSize(100)
+                .recordStats()
+                .build());
+        manager.registerCustomCache("workflowConfigs", caffeine.build());
+        manager.registerCustomCache("policies", caffeine.build());
         return manager;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.bwc.approval_workflow_service.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    // Bounded pool for outbox delivery; the dispatcher never claims more rows than it can queue
+    @Bean(name = "notificationDispatchExecutor")
+    public ThreadPoolTaskExecutor notificationDispatchExecutor(WorkflowProperties properties) {
+        WorkflowProperties.Outbox outbox = properties.getNotifications().getOutbox();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(outbox.getDispatchThreads());
+        executor.setMaxPoolSize(outbox.getDispatchThreads());
+        executor.setQueueCapacity(outbox.getDispatchQueueCapacity());
+        executor.setThreadNamePrefix("notification-dispatch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // Inbox SSE writes, kept off the committing request thread. Order per stream comes from its own queue
+    @Bean(name = "inboxStreamExecutor")
+    public ThreadPoolTaskExecutor inboxStreamExecutor(WorkflowProperties properties) {
+        WorkflowProperties.InboxStream stream = properties.getInboxStream();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(stream.getSendThreads());
+        executor.setMaxPoolSize(stream.getSendThreads());
+        executor.setQueueCapacity(stream.getSendQueueCapacity());
+        executor.setThreadNamePrefix("inbox-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // Initiation lookups; AbortPolicy lets LookupFanOut fall back to the caller thread when saturated
+    @Bean(name = "lookupFanOutExecutor")
+    public ThreadPoolTaskExecutor lookupFanOutExecutor(WorkflowProperties properties) {
+        WorkflowProperties.Initiation initiation = properties.getInitiation();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(initiation.getLookupThreads());
+        executor.setMaxPoolSize(initiation.getLookupThreads());
+        executor.setQueueCapacity(initiation.getLookupQueueCapacity());
+        executor.setThreadNamePrefix("workflow-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
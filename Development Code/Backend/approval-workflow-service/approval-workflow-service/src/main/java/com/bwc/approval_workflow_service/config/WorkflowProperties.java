@@ -0,0 +1,162 @@
+package com.bwc.approval_workflow_service.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "workflow")
+public class WorkflowProperties {
+
+    private Notifications notifications = new Notifications();
+    private StatusPropagation statusPropagation = new StatusPropagation();
+    private Metrics metrics = new Metrics();
+    private Sla sla = new Sla();
+    private Cache cache = new Cache();
+    private Initiation initiation = new Initiation();
+    private OptimisticRetry optimisticRetry = new OptimisticRetry();
+    private Claims claims = new Claims();
+    private Assignment assignment = new Assignment();
+    private ActionArchive actionArchive = new ActionArchive();
+    private WorkflowArchive workflowArchive = new WorkflowArchive();
+    private InboxStream inboxStream = new InboxStream();
+    private Export export = new Export();
+
+    @Data
+    public static class Notifications {
+        private Outbox outbox = new Outbox();
+        private Digest digest = new Digest();
+    }
+
+    @Data
+    public static class Digest {
+        private boolean enabled = false;
+        private long windowMs = 300000;        // how long the first queued item waits for others to the same recipient
+        private int maxSize = 20;              // a recipient's digest flushes early once this many items are queued
+        private List<String> types = new ArrayList<>(List.of("APPROVAL_REQUEST", "APPROVAL_NEXT"));
+    }
+
+    @Data
+    public static class Outbox {
+        private long pollIntervalMs = 1000;
+        private int batchSize = 50;
+        private int maxAttempts = 8;
+        private long initialBackoffMs = 2000;
+        private long maxBackoffMs = 600000;
+        private long leaseMs = 60000;          // SENDING rows older than this are reclaimed
+        private int dispatchThreads = 4;
+        private int dispatchQueueCapacity = 200;
+        private int retentionHours = 72;       // SENT rows kept for troubleshooting
+    }
+
+    @Data
+    public static class Sla {
+        private boolean enabled = true;
+        private long tickMs = 1000;
+        private int wheelSize = 512;
+        private long refillIntervalMs = 60000;
+        private int horizonMinutes = 10;       // how far ahead each refill loads due dates
+        private int refillLimit = 5000;
+        private int batchSize = 100;           // expired timers handled per transaction
+        private int escalateAfterHours = 24;   // overdue -> ESCALATED; 0 disables
+    }
+
+    @Data
+    public static class ActionArchive {
+        private boolean partitioningEnabled = false; // converts approval_actions to monthly partitions on startup
+        private int premakeMonths = 3;
+        private int retentionMonths = 24;            // older partitions move to archive files
+        private String archiveDir;                   // absolute path on storage every instance mounts; required when enabled
+        private int fetchSize = 1000;
+    }
+
+    @Data
+    public static class InboxStream {
+        private long emitterTimeoutMs = 1800000;   // clients reconnect with Last-Event-ID after this
+        private long heartbeatMs = 15000;
+        private int replayBufferSize = 256;         // events kept per inbox for resuming
+        private int maxSubscribers = 5000;
+        private int idleChannelMinutes = 30;        // replay buffers of inboxes with no listeners are dropped after this
+        private int sendQueueCapacity = 10000;      // drain tasks waiting for a send thread
+        private int sendThreads = 4;
+        private int subscriberQueueSize = 256;      // undelivered events per stream before it is closed
+        private long sendTimeoutMs = 10000;         // a write blocked longer than this closes the stream
+    }
+
+    @Data
+    public static class Export {
+        private int fetchSize = 1000;          // rows per cursor round trip; bounds export memory
+        private int flushEveryRows = 500;
+        private int maxConcurrent = 2;         // each running export holds a pooled connection
+    }
+
+    @Data
+    public static class WorkflowArchive {
+        private boolean enabled = true;
+        private int completedAgeDays = 90;   // finished workflows older than this leave approval_workflows
+        private int batchSize = 500;         // rows moved per transaction
+        private int maxBatchesPerRun = 20;
+    }
+
+    @Data
+    public static class Assignment {
+        private boolean enabled = true;          // false leaves role steps in the claimable pool
+        // Roles whose steps go to one approver; steps of other roles stay pooled for the claim queue
+        private List<String> roles = new ArrayList<>(List.of("HR", "FINANCE", "ADMIN"));
+        private long reservationTtlSeconds = 30; // uncommitted assignments count toward load this long
+        private long reconcileIntervalMs = 300000;
+    }
+
+    @Data
+    public static class Claims {
+        private int leaseMinutes = 15;
+        private int defaultBatchSize = 5;
+        private int maxBatchSize = 25;
+    }
+
+    @Data
+    public static class OptimisticRetry {
+        private int maxAttempts = 4;
+        private long initialBackoffMs = 20;
+        private long maxBackoffMs = 250;
+        private int hotTrackingSize = 1000;    // workflows tracked for the hot-workflow report
+        private int hotWindowMinutes = 15;
+    }
+
+    @Data
+    public static class Initiation {
+        private long lookupTimeoutMs = 3000;   // shared deadline for the parallel lookups
+        private int lookupThreads = 8;
+        private int lookupQueueCapacity = 100;
+        private int idempotencyKeyRetentionHours = 72; // workflows stay unique after this via the table constraint
+    }
+
+    @Data
+    public static class Cache {
+        private long employeesTtlSeconds = 1800;
+        private long employeesMaxSize = 5000;
+        private long travelRequestsTtlSeconds = 300;   // owner evicts on change, TTL bounds staleness otherwise
+        private long travelRequestsMaxSize = 2000;
+        private long approversByRoleTtlSeconds = 300;
+        private long defaultTtlSeconds = 1800;
+        private long defaultMaxSize = 1000;
+    }
+
+    @Data
+    public static class Metrics {
+        private long reconcileIntervalMs = 300000;
+    }
+
+    @Data
+    public static class StatusPropagation {
+        private long pollIntervalMs = 1000;
+        private int batchSize = 200;           // statuses shipped per bulk call
+        private long initialBackoffMs = 2000;
+        private long maxBackoffMs = 300000;
+        private long leaseMs = 30000;
+    }
+}
@@ -1,13 +1,32 @@
 package com.bwc.approval_workflow_service.controller;
 
+import com.bwc.approval_workflow_service.dto.BulkReassignRequestDTO;
+import com.bwc.approval_workflow_service.dto.BulkReassignResultDTO;
+import com.bwc.approval_workflow_service.dto.HotWorkflowDTO;
 import com.bwc.approval_workflow_service.dto.WorkflowMetricsDTO;
+import com.bwc.approval_workflow_service.dto.WorkflowSearchCriteria;
+import com.bwc.approval_workflow_service.dto.WorkflowSearchPageDTO;
 import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
+import com.bwc.approval_workflow_service.service.ApproverStatsService;
+import com.bwc.approval_workflow_service.workflow.WorkflowExporter;
 import io.swagger.v3.oas.annotations.Operation;
+import org.springdoc.core.annotations.ParameterObject;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/admin/workflows")
 @RequiredArgsConstructor
@@ -15,6 +34,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminWorkflowController {
 
     private final ApprovalWorkflowService workflowService;
+    private final ApproverStatsService approverStatsService;
+    private final WorkflowExporter workflowExporter;
 
     @Operation(summary = "Get workflow metrics", description = "Fetch aggregated workflow statistics")
     @GetMapping("/metrics")
@@ -22,10 +43,41 @@ public class AdminWorkflowController {
         return ResponseEntity.ok(workflowService.getWorkflowMetrics());
     }
 
+    @Operation(summary = "Search workflows", description = "Combine status, step, type, priority, approver, due-date and cost filters; newest first, keyset paged via cursor")
+    @GetMapping("/search")
+    public ResponseEntity<WorkflowSearchPageDTO> searchWorkflows(@ParameterObject WorkflowSearchCriteria criteria) {
+        return ResponseEntity.ok(workflowService.searchWorkflows(criteria));
+    }
+
+    @Operation(summary = "Export workflows", description = "Stream live and archived workflows as CSV or NDJSON, oldest first, optionally limited by created_at range, status and type")
+    @GetMapping("/export/workflows")
+    public ResponseEntity<StreamingResponseBody> exportWorkflows(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String workflowType) {
+        WorkflowExporter.Format exportFormat = WorkflowExporter.Format.parse(format);
+        return streamed("workflows", exportFormat,
+                out -> workflowExporter.exportWorkflows(out, exportFormat, from, to, status, workflowType));
+    }
+
+    @Operation(summary = "Export approval actions", description = "Stream approval actions, including archived partitions, as CSV or NDJSON, oldest first, optionally limited by created_at range and travel request")
+    @GetMapping("/export/actions")
+    public ResponseEntity<StreamingResponseBody> exportActions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID travelRequestId) {
+        WorkflowExporter.Format exportFormat = WorkflowExporter.Format.parse(format);
+        return streamed("approval-actions", exportFormat,
+                out -> workflowExporter.exportActions(out, exportFormat, from, to, travelRequestId));
+    }
+
     @Operation(summary = "Get overdue workflows", description = "List workflows that are overdue for approval")
     @GetMapping("/overdue")
     public ResponseEntity<?> getOverdueWorkflows() {
-        return ResponseEntity.ok(workflowService.getWorkflowsByStatus("OVERDUE"));
+        return ResponseEntity.ok(workflowService.getOverdueWorkflows());
     }
 
     @Operation(summary = "Reload workflow configurations", description = "Force reload workflow configuration from database")
@@ -34,4 +86,38 @@ public class AdminWorkflowController {
         workflowService.reloadWorkflowConfigurations();
         return ResponseEntity.ok().build();
     }
+
+    @Operation(summary = "Get contended workflows", description = "Workflows with the most optimistic-lock conflicts in the recent window")
+    @GetMapping("/contention/hot")
+    public ResponseEntity<List<HotWorkflowDTO>> getHotWorkflows(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(workflowService.getHotWorkflows(Math.min(Math.max(limit, 1), 200)));
+    }
+
+    @Operation(summary = "Get approver load", description = "Pending workflows per approver as seen by least-loaded assignment")
+    @GetMapping("/approver-load")
+    public ResponseEntity<Map<UUID, Integer>> getApproverLoads() {
+        return ResponseEntity.ok(workflowService.getApproverLoads());
+    }
+
+    @Operation(summary = "Bulk reassign workflows", description = "Move all pending workflows of one approver to another, optionally filtered by step or type")
+    @PostMapping("/reassign")
+    public ResponseEntity<BulkReassignResultDTO> bulkReassign(@Valid @RequestBody BulkReassignRequestDTO request) {
+        return ResponseEntity.ok(workflowService.bulkReassign(request));
+    }
+
+    @Operation(summary = "Rebuild approver statistics", description = "Recompute the approver_stats rollup from the full action history")
+    @PostMapping("/approver-stats/rebuild")
+    public ResponseEntity<Integer> rebuildApproverStats() {
+        return ResponseEntity.ok(approverStatsService.rebuild());
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamed(String name, WorkflowExporter.Format format, StreamingResponseBody body) {
+        if (!workflowExporter.tryStart()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "60").build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.extension() + "\"")
+                .body(body);
+    }
 }
@@ -0,0 +1,42 @@
+package com.bwc.approval_workflow_service.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.bwc.approval_workflow_service.service.RemoteLookupService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/internal/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache Invalidation", description = "Hooks for owning services to evict cached employee and travel request data")
+public class CacheInvalidationController {
+
+    private final RemoteLookupService remoteLookup;
+
+    @Operation(summary = "Evict cached employee", description = "Called by the employee service after an employee changes")
+    @DeleteMapping("/employees/{employeeId}")
+    public ResponseEntity<Void> evictEmployee(@PathVariable UUID employeeId) {
+        remoteLookup.evictEmployee(employeeId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Evict cached travel request", description = "Called by the travel request service after a request changes")
+    @DeleteMapping("/travel-requests/{travelRequestId}")
+    public ResponseEntity<Void> evictTravelRequest(@PathVariable UUID travelRequestId) {
+        remoteLookup.evictTravelRequest(travelRequestId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Clear near-caches", description = "Drop every cached employee and travel request")
+    @DeleteMapping
+    public ResponseEntity<Void> evictAll() {
+        remoteLookup.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
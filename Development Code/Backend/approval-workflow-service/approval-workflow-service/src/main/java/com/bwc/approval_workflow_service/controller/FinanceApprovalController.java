@@ -2,6 +2,9 @@ package com.bwc.approval_workflow_service.controller;
 
 import com.bwc.approval_workflow_service.dto.ApprovalRequestDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalRequestDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalResultDTO;
+import com.bwc.approval_workflow_service.dto.InboxPageDTO;
 import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +14,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +33,48 @@ public class FinanceApprovalController {
         return ResponseEntity.ok(workflowService.getPendingApprovalsByRole("FINANCE"));
     }
 
+    @Operation(summary = "Get one page of pending Finance approvals")
+    @GetMapping("/pending/inbox")
+    @PreAuthorize("hasRole('FINANCE')")
+    public ResponseEntity<InboxPageDTO> getPendingInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workflowService.getInbox("FINANCE", null, cursor, limit));
+    }
+
+    @Operation(summary = "Claim pending Finance approvals", description = "Lease a batch of unassigned workflows to the caller so other Finance agents skip them")
+    @PostMapping("/pending/claim")
+    @PreAuthorize("hasRole('FINANCE')")
+    public ResponseEntity<List<ApprovalWorkflowDTO>> claimPending(
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        String financeIdHeader = request.getHeader("X-User-Id");
+        UUID financeId = financeIdHeader != null ? UUID.fromString(financeIdHeader) : null;
+        return ResponseEntity.ok(workflowService.claimPendingByRole("FINANCE", financeId, limit));
+    }
+
+    @Operation(summary = "Renew Finance claims", description = "Extend the lease on workflows the caller still holds")
+    @PostMapping("/claims/renew")
+    @PreAuthorize("hasRole('FINANCE')")
+    public ResponseEntity<Integer> renewClaims(
+            @RequestBody List<UUID> workflowIds,
+            HttpServletRequest request) {
+        String financeIdHeader = request.getHeader("X-User-Id");
+        UUID financeId = financeIdHeader != null ? UUID.fromString(financeIdHeader) : null;
+        return ResponseEntity.ok(workflowService.renewClaims(financeId, workflowIds));
+    }
+
+    @Operation(summary = "Release Finance claims", description = "Hand workflows back to the pool; an empty body releases all of the caller's claims")
+    @PostMapping("/claims/release")
+    @PreAuthorize("hasRole('FINANCE')")
+    public ResponseEntity<Integer> releaseClaims(
+            @RequestBody(required = false) List<UUID> workflowIds,
+            HttpServletRequest request) {
+        String financeIdHeader = request.getHeader("X-User-Id");
+        UUID financeId = financeIdHeader != null ? UUID.fromString(financeIdHeader) : null;
+        return ResponseEntity.ok(workflowService.releaseClaims(financeId, workflowIds));
+    }
+
     @Operation(summary = "Process Finance approval")
     @PostMapping("/{workflowId}/action")
     @PreAuthorize("hasRole('FINANCE')")
@@ -47,6 +93,19 @@ public class FinanceApprovalController {
         return ResponseEntity.ok(workflowService.processApproval(approvalRequest));
     }
 
+    @Operation(summary = "Apply one Finance action to many workflows")
+    @PostMapping("/bulk-action")
+    @PreAuthorize("hasRole('FINANCE')")
+    public ResponseEntity<BulkApprovalResultDTO> takeFinanceBulkAction(
+            @Valid @RequestBody BulkApprovalRequestDTO bulkRequest,
+            HttpServletRequest request) {
+
+        String financeIdHeader = request.getHeader("X-User-Id");
+        UUID financeId = financeIdHeader != null ? UUID.fromString(financeIdHeader) : null;
+
+        return ResponseEntity.ok(workflowService.processBulkApproval(bulkRequest, "FINANCE", financeId));
+    }
+
     @Operation(summary = "Get Finance approval statistics")
     @GetMapping("/stats")
     @PreAuthorize("hasRole('FINANCE')")
@@ -2,6 +2,9 @@ package com.bwc.approval_workflow_service.controller;
 
 import com.bwc.approval_workflow_service.dto.ApprovalRequestDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalRequestDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalResultDTO;
+import com.bwc.approval_workflow_service.dto.InboxPageDTO;
 import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +14,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 
@@ -29,6 +33,48 @@ public class HRApprovalController {
         return ResponseEntity.ok(workflowService.getPendingApprovalsByRole("HR"));
     }
 
+    @Operation(summary = "Get one page of pending HR approvals")
+    @GetMapping("/pending/inbox")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<InboxPageDTO> getPendingInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workflowService.getInbox("HR", null, cursor, limit));
+    }
+
+    @Operation(summary = "Claim pending HR approvals", description = "Lease a batch of unassigned workflows to the caller so other HR agents skip them")
+    @PostMapping("/pending/claim")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<List<ApprovalWorkflowDTO>> claimPending(
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        String hrIdHeader = request.getHeader("X-User-Id");
+        UUID hrId = hrIdHeader != null ? UUID.fromString(hrIdHeader) : null;
+        return ResponseEntity.ok(workflowService.claimPendingByRole("HR", hrId, limit));
+    }
+
+    @Operation(summary = "Renew HR claims", description = "Extend the lease on workflows the caller still holds")
+    @PostMapping("/claims/renew")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<Integer> renewClaims(
+            @RequestBody List<UUID> workflowIds,
+            HttpServletRequest request) {
+        String hrIdHeader = request.getHeader("X-User-Id");
+        UUID hrId = hrIdHeader != null ? UUID.fromString(hrIdHeader) : null;
+        return ResponseEntity.ok(workflowService.renewClaims(hrId, workflowIds));
+    }
+
+    @Operation(summary = "Release HR claims", description = "Hand workflows back to the pool; an empty body releases all of the caller's claims")
+    @PostMapping("/claims/release")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<Integer> releaseClaims(
+            @RequestBody(required = false) List<UUID> workflowIds,
+            HttpServletRequest request) {
+        String hrIdHeader = request.getHeader("X-User-Id");
+        UUID hrId = hrIdHeader != null ? UUID.fromString(hrIdHeader) : null;
+        return ResponseEntity.ok(workflowService.releaseClaims(hrId, workflowIds));
+    }
+
     @Operation(summary = "Process HR approval")
     @PostMapping("/{workflowId}/action")
     @PreAuthorize("hasRole('HR')")
@@ -47,6 +93,19 @@ public class HRApprovalController {
         return ResponseEntity.ok(workflowService.processApproval(approvalRequest));
     }
 
+    @Operation(summary = "Apply one HR action to many workflows")
+    @PostMapping("/bulk-action")
+    @PreAuthorize("hasRole('HR')")
+    public ResponseEntity<BulkApprovalResultDTO> takeHRBulkAction(
+            @Valid @RequestBody BulkApprovalRequestDTO bulkRequest,
+            HttpServletRequest request) {
+
+        String hrIdHeader = request.getHeader("X-User-Id");
+        UUID hrId = hrIdHeader != null ? UUID.fromString(hrIdHeader) : null;
+
+        return ResponseEntity.ok(workflowService.processBulkApproval(bulkRequest, "HR", hrId));
+    }
+
     @Operation(summary = "Get HR approval statistics")
     @GetMapping("/stats")
     @PreAuthorize("hasRole('HR')")
@@ -0,0 +1,30 @@
+package com.bwc.approval_workflow_service.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
+import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/internal/travel-requests")
+@RequiredArgsConstructor
+@Tag(name = "Travel Request Sync", description = "Called by travel-request-management when a request is edited")
+public class InternalTravelRequestController {
+
+    private final ApprovalWorkflowService workflowService;
+
+    @Operation(summary = "Refresh travel request snapshot",
+               description = "Replace the travel request facts captured on the request's workflows")
+    @PutMapping("/{travelRequestId}/snapshot")
+    public ResponseEntity<Integer> refreshSnapshot(@PathVariable UUID travelRequestId,
+                                                   @RequestBody TravelRequestProxyDTO travelRequest) {
+        return ResponseEntity.ok(workflowService.refreshTravelRequestSnapshot(travelRequestId, travelRequest));
+    }
+}
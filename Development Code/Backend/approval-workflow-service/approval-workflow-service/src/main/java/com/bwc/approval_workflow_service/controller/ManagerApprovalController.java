@@ -2,6 +2,9 @@ package com.bwc.approval_workflow_service.controller;
 
 import com.bwc.approval_workflow_service.dto.ApprovalRequestDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalRequestDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalResultDTO;
+import com.bwc.approval_workflow_service.dto.InboxPageDTO;
 import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -37,6 +41,22 @@ public class ManagerApprovalController {
         return ResponseEntity.ok(approvals);
     }
 
+    @GetMapping("/approvals/pending/inbox")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<InboxPageDTO> getPendingInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+
+        String managerIdHeader = request.getHeader("X-User-Id");
+        if (managerIdHeader == null) {
+            throw new RuntimeException("Manager ID not found in request");
+        }
+
+        UUID managerId = UUID.fromString(managerIdHeader);
+        return ResponseEntity.ok(workflowService.getInbox("MANAGER", managerId, cursor, limit));
+    }
+
     @PostMapping("/approvals/{workflowId}/action")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<ApprovalWorkflowDTO> takeManagerAction(
@@ -58,4 +78,19 @@ public class ManagerApprovalController {
         
         return ResponseEntity.ok(workflowService.processApproval(approvalRequest));
     }
+
+    @PostMapping("/approvals/bulk-action")
+    @PreAuthorize("hasRole('MANAGER')")
+    public ResponseEntity<BulkApprovalResultDTO> takeBulkManagerAction(
+            @Valid @RequestBody BulkApprovalRequestDTO bulkRequest,
+            HttpServletRequest request) {
+
+        String managerIdHeader = request.getHeader("X-User-Id");
+        if (managerIdHeader == null) {
+            throw new RuntimeException("Manager ID not found in request");
+        }
+
+        UUID managerId = UUID.fromString(managerIdHeader);
+        return ResponseEntity.ok(workflowService.processBulkApproval(bulkRequest, "MANAGER", managerId));
+    }
 }
\ No newline at end of file
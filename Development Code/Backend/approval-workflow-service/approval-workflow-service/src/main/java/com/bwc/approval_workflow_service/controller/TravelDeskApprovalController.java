@@ -39,6 +39,45 @@ public class TravelDeskApprovalController {
         return ResponseEntity.ok(workflowService.getPendingApprovalsByRole("TRAVEL_DESK"));
     }
 
+    @Operation(summary = "Get one page of pending Travel Desk approvals")
+    @GetMapping("/pending/inbox")
+    @PreAuthorize("hasRole('TRAVEL_DESK')")
+    public ResponseEntity<InboxPageDTO> getPendingInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workflowService.getInbox("TRAVEL_DESK", null, cursor, limit));
+    }
+
+    @Operation(summary = "Claim pending Travel Desk approvals", description = "Lease a batch of unassigned workflows to the caller so other Travel Desk agents skip them")
+    @PostMapping("/pending/claim")
+    @PreAuthorize("hasRole('TRAVEL_DESK')")
+    public ResponseEntity<List<ApprovalWorkflowDTO>> claimPending(
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+        UUID travelDeskId = parseUserId(request);
+        return ResponseEntity.ok(workflowService.claimPendingByRole("TRAVEL_DESK", travelDeskId, limit));
+    }
+
+    @Operation(summary = "Renew Travel Desk claims", description = "Extend the lease on workflows the caller still holds")
+    @PostMapping("/claims/renew")
+    @PreAuthorize("hasRole('TRAVEL_DESK')")
+    public ResponseEntity<Integer> renewClaims(
+            @RequestBody List<UUID> workflowIds,
+            HttpServletRequest request) {
+        UUID travelDeskId = parseUserId(request);
+        return ResponseEntity.ok(workflowService.renewClaims(travelDeskId, workflowIds));
+    }
+
+    @Operation(summary = "Release Travel Desk claims", description = "Hand workflows back to the pool; an empty body releases all of the caller's claims")
+    @PostMapping("/claims/release")
+    @PreAuthorize("hasRole('TRAVEL_DESK')")
+    public ResponseEntity<Integer> releaseClaims(
+            @RequestBody(required = false) List<UUID> workflowIds,
+            HttpServletRequest request) {
+        UUID travelDeskId = parseUserId(request);
+        return ResponseEntity.ok(workflowService.releaseClaims(travelDeskId, workflowIds));
+    }
+
     @Operation(summary = "Process Travel Desk approval")
     @PostMapping("/{workflowId}/action")
     @PreAuthorize("hasRole('TRAVEL_DESK')")
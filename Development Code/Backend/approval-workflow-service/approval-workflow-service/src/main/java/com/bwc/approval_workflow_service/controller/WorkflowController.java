@@ -2,14 +2,20 @@ package com.bwc.approval_workflow_service.controller;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.bwc.approval_workflow_service.dto.ApprovalRequestDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
+import com.bwc.approval_workflow_service.dto.InboxPageDTO;
 import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
 import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
+import com.bwc.approval_workflow_service.workflow.InboxEventBroadcaster;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -25,26 +31,31 @@ import lombok.RequiredArgsConstructor;
 public class WorkflowController {
 
     private final ApprovalWorkflowService workflowService;
+    private final InboxEventBroadcaster inboxEventBroadcaster;
 
     // ✅ Initiate Workflow using JSON body instead of query params
     @PostMapping("/initiate")
-    @Operation(summary = "Initiate a new workflow")
-    public ResponseEntity<ApprovalWorkflowDTO> initiateWorkflow(@RequestBody InitiateWorkflowRequest request) {
+    @Operation(summary = "Initiate a new workflow", description = "Idempotent per travel request and type; repeats return the existing workflow")
+    public ResponseEntity<ApprovalWorkflowDTO> initiateWorkflow(
+            @RequestBody InitiateWorkflowRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         return ResponseEntity.ok(workflowService.initiateWorkflow(
                 request.getTravelRequestId(),
                 request.getWorkflowType(),
-                request.getEstimatedCost()
+                request.getEstimatedCost(),
+                idempotencyKey
         ));	
     }
 
     // ✅ NEW: Optimized workflow initiation with TravelRequest DTO
     @PostMapping("/initiate-with-travel-request")
-    @Operation(summary = "Initiate workflow with travel request data (optimized)")
+    @Operation(summary = "Initiate workflow with travel request data (optimized)", description = "Idempotent per travel request and type; repeats return the existing workflow")
     public ResponseEntity<ApprovalWorkflowDTO> initiateWorkflowWithTravelRequest(
             @RequestBody TravelRequestProxyDTO travelRequest,
             @RequestParam String workflowType,
-            @RequestParam(required = false) Double estimatedCost) {
-        return ResponseEntity.ok(workflowService.initiateWorkflow(travelRequest, workflowType, estimatedCost));
+            @RequestParam(required = false) Double estimatedCost,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        return ResponseEntity.ok(workflowService.initiateWorkflow(travelRequest, workflowType, estimatedCost, idempotencyKey));
     }
 
     // ✅ Process Approval
@@ -76,15 +87,17 @@ public class WorkflowController {
     // ✅ Get Workflow by Travel Request
     @GetMapping("/travel-request/{travelRequestId}")
     @Operation(summary = "Get workflow by travel request ID")
-    public ResponseEntity<ApprovalWorkflowDTO> getByTravelRequest(@PathVariable UUID travelRequestId) {
-        return ResponseEntity.ok(workflowService.getWorkflowByRequestId(travelRequestId));
+    public ResponseEntity<ApprovalWorkflowDTO> getByTravelRequest(@PathVariable UUID travelRequestId, WebRequest request) {
+        return conditional(request, workflowService.getWorkflowByRequestETag(travelRequestId),
+                () -> workflowService.getWorkflowByRequestId(travelRequestId));
     }
 
     // ✅ Get Workflow by Workflow ID
     @GetMapping("/{workflowId}")
     @Operation(summary = "Get workflow by ID")
-    public ResponseEntity<ApprovalWorkflowDTO> getWorkflow(@PathVariable UUID workflowId) {
-        return ResponseEntity.ok(workflowService.getWorkflow(workflowId));
+    public ResponseEntity<ApprovalWorkflowDTO> getWorkflow(@PathVariable UUID workflowId, WebRequest request) {
+        return conditional(request, workflowService.getWorkflowETag(workflowId),
+                () -> workflowService.getWorkflow(workflowId));
     }
 
     // ✅ Get Pending Approvals by Role
@@ -102,11 +115,34 @@ public class WorkflowController {
         }
     }
 
+    // ✅ Keyset-paginated inbox (personal when approverId is given, otherwise the role queue)
+    @GetMapping("/inbox")
+    @Operation(summary = "Get one page of pending approvals ordered by priority and due date")
+    public ResponseEntity<InboxPageDTO> getInbox(
+            @RequestParam(required = false) String approverRole,
+            @RequestParam(required = false) UUID approverId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(workflowService.getInbox(approverRole, approverId, cursor, limit));
+    }
+
+    // Push alternative to polling the inbox: ADDED / REMOVED / UPDATED deltas as transitions commit
+    @GetMapping(value = "/inbox/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream inbox changes for an approver or role (Server-Sent Events)",
+               description = "Reconnect with Last-Event-ID to resume; a 'resync' event means reload the inbox")
+    public SseEmitter streamInbox(
+            @RequestParam(required = false) UUID approverId,
+            @RequestParam(required = false) String approverRole,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return inboxEventBroadcaster.subscribe(approverId, approverRole, lastEventId);
+    }
+
     // ✅ Get Workflow History
     @GetMapping("/{travelRequestId}/history")
     @Operation(summary = "Get workflow history for a travel request")
-    public ResponseEntity<?> getWorkflowHistory(@PathVariable UUID travelRequestId) {
-        return ResponseEntity.ok(workflowService.getWorkflowHistory(travelRequestId));
+    public ResponseEntity<?> getWorkflowHistory(@PathVariable UUID travelRequestId, WebRequest request) {
+        return conditional(request, workflowService.getWorkflowHistoryETag(travelRequestId),
+                () -> workflowService.getWorkflowHistory(travelRequestId));
     }
 
     // ✅ Get Workflows by Status
@@ -123,6 +159,17 @@ public class WorkflowController {
         return ResponseEntity.ok(workflowService.getWorkflowMetrics());
     }
 
+    // Answers If-None-Match from the version tag alone; the body is only built when it changed
+    private <T> ResponseEntity<T> conditional(WebRequest request, String etag, Supplier<T> body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(body.get());
+    }
+
     // 🧩 Inner DTO for initiating workflow
     @Data
     public static class InitiateWorkflowRequest {
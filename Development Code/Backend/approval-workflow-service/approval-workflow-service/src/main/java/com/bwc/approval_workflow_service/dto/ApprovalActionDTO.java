@@ -22,6 +22,7 @@ public class ApprovalActionDTO {
     private Boolean isEscalated;
     private Double amountApproved;
     private Double reimbursementAmount;
+    private Long processingTimeSeconds;
     private LocalDateTime actionTakenAt;
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -37,4 +37,9 @@ public class ApprovalWorkflowDTO {
     
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime completedAt;
+
+    private UUID claimedBy;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime claimExpiresAt;
 }
\ No newline at end of file
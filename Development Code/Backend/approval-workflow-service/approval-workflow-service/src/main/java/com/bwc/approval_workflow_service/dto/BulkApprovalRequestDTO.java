@@ -0,0 +1,25 @@
+package com.bwc.approval_workflow_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalRequestDTO {
+    @NotEmpty
+    @Size(max = 200)
+    private List<UUID> workflowIds;
+
+    @NotBlank
+    private String action; // APPROVE, REJECT, RETURN, ESCALATE
+
+    private String approverName;
+    private String comments;
+    private String escalationReason;
+}
@@ -0,0 +1,28 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalResultDTO {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private UUID workflowId;
+        private boolean success;
+        private String status;
+        private String currentStep;
+        private String error;
+    }
+}
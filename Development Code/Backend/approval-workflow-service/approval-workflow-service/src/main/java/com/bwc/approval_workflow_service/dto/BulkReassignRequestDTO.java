@@ -0,0 +1,23 @@
+package com.bwc.approval_workflow_service.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReassignRequestDTO {
+    @NotNull
+    private UUID fromApproverId;
+
+    @NotNull
+    private UUID toApproverId;
+
+    private String toApproverRole; // keeps each workflow's current role when blank
+    private String step;           // optional filter on current step
+    private String workflowType;   // optional filter, PRE_TRAVEL or POST_TRAVEL
+    private UUID reassignedBy;
+    private String reason;
+}
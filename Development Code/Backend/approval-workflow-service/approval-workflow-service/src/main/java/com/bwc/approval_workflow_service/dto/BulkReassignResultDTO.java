@@ -0,0 +1,16 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReassignResultDTO {
+    private UUID fromApproverId;
+    private UUID toApproverId;
+    private int reassigned;
+    private List<UUID> workflowIds;
+}
@@ -0,0 +1,14 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResultDTO {
+    private int updated;
+    private List<UUID> notFound;
+}
@@ -0,0 +1,13 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotWorkflowDTO {
+    private UUID workflowId;
+    private long conflicts;   // optimistic-lock conflicts within the tracking window
+}
@@ -0,0 +1,21 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboxEventDTO {
+    private String type;            // ADDED, REMOVED, UPDATED
+    private UUID workflowId;
+    private UUID travelRequestId;
+    private String workflowType;
+    private String status;
+    private String currentStep;
+    private String currentApproverRole;
+    private UUID currentApproverId;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,14 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboxPageDTO {
+    private List<ApprovalWorkflowDTO> items;
+    private String nextCursor;   // pass back as ?cursor= to get the next page; null on the last page
+    private boolean hasMore;
+}
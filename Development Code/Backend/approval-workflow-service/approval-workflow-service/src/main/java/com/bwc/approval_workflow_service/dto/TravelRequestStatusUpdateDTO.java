@@ -0,0 +1,13 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelRequestStatusUpdateDTO {
+    private UUID travelRequestId;
+    private String status;
+}
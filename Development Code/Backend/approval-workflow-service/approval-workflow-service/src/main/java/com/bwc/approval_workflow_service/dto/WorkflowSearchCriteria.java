@@ -0,0 +1,37 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.*;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Filters for the admin workflow search; every field is optional and set filters are AND-ed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowSearchCriteria {
+    private List<String> status;      // any of
+    private String currentStep;
+    private String workflowType;
+    private List<String> priority;    // any of
+    private UUID approverId;
+    private String approverRole;
+    private UUID travelRequestId;
+    private Boolean overdue;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;    // inclusive
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;      // exclusive
+
+    private Double minEstimatedCost;  // inclusive
+    private Double maxEstimatedCost;  // inclusive
+
+    private String cursor;            // nextCursor of the previous page
+    private Integer limit;
+}
@@ -0,0 +1,41 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One approval_actions partition moved to a gzip NDJSON file.
+ */
+@Entity
+@Table(name = "approval_action_archives")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActionArchive {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "uuid")
+    private UUID archiveId;
+
+    @Column(name = "partition_name", nullable = false, unique = true)
+    private String partitionName;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDateTime periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDateTime periodEnd;
+
+    @Column(name = "file_path", nullable = false, length = 1000)
+    private String filePath;
+
+    @Column(name = "row_count", nullable = false)
+    private Long rowCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,30 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.util.UUID;
+
+/**
+ * Marks that an archive file holds actions of a travel request, so history reads
+ * only open the files that can contain matches.
+ */
+@Entity
+@Table(name = "approval_action_archive_refs",
+       uniqueConstraints = @UniqueConstraint(name = "uk_action_archive_ref",
+                                             columnNames = {"travel_request_id", "archive_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ActionArchiveRef {
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID refId;
+
+    @Column(name = "travel_request_id", nullable = false, columnDefinition = "uuid")
+    private UUID travelRequestId;
+
+    @Column(name = "archive_id", nullable = false, columnDefinition = "uuid")
+    private UUID archiveId;
+}
@@ -7,7 +7,11 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "approval_actions")
+@Table(name = "approval_actions", indexes = {
+        @Index(name = "idx_action_travel_request", columnList = "travel_request_id, created_at"),
+        @Index(name = "idx_action_workflow", columnList = "workflow_id, created_at")
+})
+@EntityListeners(ApprovalActionEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -62,4 +66,8 @@ public class ApprovalAction {
     
     @Column(name = "reimbursement_amount")
     private Double reimbursementAmount;
+    
+    // Seconds the workflow sat in this step before the action was taken
+    @Column(name = "processing_time_seconds")
+    private Long processingTimeSeconds;
 }
\ No newline at end of file
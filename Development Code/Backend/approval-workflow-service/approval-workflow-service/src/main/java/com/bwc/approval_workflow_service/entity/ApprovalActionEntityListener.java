@@ -0,0 +1,23 @@
+package com.bwc.approval_workflow_service.entity;
+
+import com.bwc.approval_workflow_service.workflow.ApproverStatsRecorder;
+
+import jakarta.persistence.PrePersist;
+
+/**
+ * Feeds every new action into the approver_stats rollup. Runs on persist (not flush)
+ * so the delta is registered before the surrounding transaction starts committing.
+ */
+public class ApprovalActionEntityListener {
+
+    private final ApproverStatsRecorder statsRecorder;
+
+    public ApprovalActionEntityListener(ApproverStatsRecorder statsRecorder) {
+        this.statsRecorder = statsRecorder;
+    }
+
+    @PrePersist
+    public void recordStats(ApprovalAction action) {
+        statsRecorder.record(action);
+    }
+}
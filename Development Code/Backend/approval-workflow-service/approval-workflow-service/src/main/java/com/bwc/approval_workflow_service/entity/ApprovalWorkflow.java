@@ -8,7 +8,16 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "approval_workflows")
+@Table(name = "approval_workflows", indexes = {
+        @Index(name = "idx_workflow_sla_due", columnList = "status, is_overdue, due_date"),
+        @Index(name = "idx_workflow_sla_overdue", columnList = "status, is_overdue, overdue_since"),
+        // Admin search pages newest first on (created_at, workflow_id) under the usual leading filters
+        @Index(name = "idx_workflow_search_status", columnList = "status, created_at, workflow_id"),
+        @Index(name = "idx_workflow_search_type", columnList = "workflow_type, status, created_at, workflow_id"),
+        @Index(name = "idx_workflow_search_created", columnList = "created_at, workflow_id")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_workflow_request_type",
+                                          columnNames = {"travel_request_id", "workflow_type"}))
+@EntityListeners(ApprovalWorkflowEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -50,6 +59,10 @@ public class ApprovalWorkflow {
     @Builder.Default
     private String priority = "NORMAL";
     
+    // Sortable form of priority (URGENT first) used by the keyset inbox queries
+    @Column(name = "priority_rank")
+    private Integer priorityRank;
+    
     @Column(name = "estimated_cost")
     private Double estimatedCost;
     
@@ -59,9 +72,37 @@ public class ApprovalWorkflow {
     @Column(name = "booking_details", columnDefinition = "TEXT")
     private String bookingDetails; // JSON string of BookingDetailsDTO
 
+    @Column(name = "booking_notes", columnDefinition = "TEXT")
+    private String bookingNotes;
+
     @Column(name = "total_booking_amount")
     private Double totalBookingAmount;
     
+    // Booking counters maintained alongside workflow_bookings rows; NULL until legacy JSON is migrated
+    @Column(name = "booking_count")
+    @Builder.Default
+    private Integer bookingCount = 0;
+    
+    @Column(name = "flight_booking_count")
+    @Builder.Default
+    private Integer flightBookingCount = 0;
+    
+    @Column(name = "hotel_booking_count")
+    @Builder.Default
+    private Integer hotelBookingCount = 0;
+    
+    @Column(name = "train_booking_count")
+    @Builder.Default
+    private Integer trainBookingCount = 0;
+    
+    @Column(name = "car_rental_booking_count")
+    @Builder.Default
+    private Integer carRentalBookingCount = 0;
+    
+    @Column(name = "other_booking_count")
+    @Builder.Default
+    private Integer otherBookingCount = 0;
+    
     @Column(name = "is_overpriced")
     @Builder.Default
     private Boolean isOverpriced = false;
@@ -72,6 +113,27 @@ public class ApprovalWorkflow {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
     
+    @Column(name = "step_started_at")
+    private LocalDateTime stepStartedAt;
+    
+    @Column(name = "is_overdue")
+    @Builder.Default
+    private Boolean isOverdue = false;
+    
+    @Column(name = "overdue_since")
+    private LocalDateTime overdueSince;
+
+    // Lease held by the agent working a role-pooled step; an expired lease is free to claim
+    @Column(name = "claimed_by", columnDefinition = "uuid")
+    private UUID claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
+    // NULL for workflows started before snapshots existed; filled on their next transition
+    @Embedded
+    private TravelRequestSnapshot travelRequestSnapshot;
+    
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -85,4 +147,92 @@ public class ApprovalWorkflow {
     
     @Version
     private Long version;
+
+    // State as last loaded or flushed; used to describe transitions to listeners
+    @Transient
+    private String loadedStatus;
+
+    @Transient
+    private String loadedStep;
+
+    @Transient
+    private String loadedApproverRole;
+
+    @Transient
+    private UUID loadedApproverId;
+
+    @Transient
+    private LocalDateTime loadedCompletedAt;
+
+    @PostLoad
+    void captureLoadedState() {
+        this.loadedStatus = status;
+        this.loadedStep = currentStep;
+        this.loadedApproverRole = currentApproverRole;
+        this.loadedApproverId = currentApproverId;
+        this.loadedCompletedAt = completedAt;
+    }
+
+    @PrePersist
+    void prePersist() {
+        if (stepStartedAt == null) {
+            stepStartedAt = LocalDateTime.now();
+        }
+        syncPriorityRank();
+    }
+
+    @PreUpdate
+    void syncPriorityRank() {
+        this.priorityRank = priorityRank(priority);
+    }
+
+    /**
+     * Adjust the booking counters and total for one booking added ({@code direction} 1) or removed (-1).
+     */
+    public void applyBookingDelta(String bookingType, int direction, Double amount) {
+        bookingCount = nz(bookingCount) + direction;
+        switch (bookingType) {
+            case "FLIGHT" -> flightBookingCount = nz(flightBookingCount) + direction;
+            case "HOTEL" -> hotelBookingCount = nz(hotelBookingCount) + direction;
+            case "TRAIN" -> trainBookingCount = nz(trainBookingCount) + direction;
+            case "CAR_RENTAL" -> carRentalBookingCount = nz(carRentalBookingCount) + direction;
+            default -> otherBookingCount = nz(otherBookingCount) + direction;
+        }
+        double current = totalBookingAmount != null ? totalBookingAmount : 0.0;
+        totalBookingAmount = current + direction * (amount != null ? amount : 0.0);
+    }
+
+    public boolean isClaimedByOther(UUID agentId, LocalDateTime now) {
+        return claimedBy != null && claimExpiresAt != null && claimExpiresAt.isAfter(now)
+                && !claimedBy.equals(agentId);
+    }
+
+    public void releaseClaim() {
+        claimedBy = null;
+        claimExpiresAt = null;
+    }
+
+    public void resetBookingCounters() {
+        bookingCount = 0;
+        flightBookingCount = 0;
+        hotelBookingCount = 0;
+        trainBookingCount = 0;
+        carRentalBookingCount = 0;
+        otherBookingCount = 0;
+        totalBookingAmount = 0.0;
+    }
+
+    private static int nz(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    public static int priorityRank(String priority) {
+        if (priority == null) return 2;
+        return switch (priority.toUpperCase()) {
+            case "URGENT", "CRITICAL" -> 0;
+            case "HIGH" -> 1;
+            case "LOW" -> 3;
+            default -> 2;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.bwc.approval_workflow_service.entity;
+
+import java.util.Objects;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.bwc.approval_workflow_service.workflow.WorkflowTransitionEvent;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Turns workflow inserts and state-changing updates into {@link WorkflowTransitionEvent}s.
+ * Instantiated by Hibernate through Spring's bean container, so the publisher is injected.
+ */
+public class ApprovalWorkflowEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ApprovalWorkflowEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void publishTransition(ApprovalWorkflow workflow) {
+        boolean changed = !Objects.equals(workflow.getLoadedStatus(), workflow.getStatus())
+                || !Objects.equals(workflow.getLoadedStep(), workflow.getCurrentStep())
+                || !Objects.equals(workflow.getLoadedApproverRole(), workflow.getCurrentApproverRole())
+                || !Objects.equals(workflow.getLoadedApproverId(), workflow.getCurrentApproverId());
+        if (!changed) {
+            return;
+        }
+
+        eventPublisher.publishEvent(new WorkflowTransitionEvent(
+                workflow.getWorkflowId(),
+                workflow.getTravelRequestId(),
+                workflow.getWorkflowType(),
+                workflow.getLoadedStatus(),
+                workflow.getStatus(),
+                workflow.getLoadedStep(),
+                workflow.getCurrentStep(),
+                workflow.getLoadedApproverRole(),
+                workflow.getCurrentApproverRole(),
+                workflow.getLoadedApproverId(),
+                workflow.getCurrentApproverId(),
+                workflow.getCreatedAt(),
+                workflow.getLoadedCompletedAt(),
+                workflow.getCompletedAt()));
+        // A later flush in the same transaction reports only what changed after this one
+        workflow.captureLoadedState();
+    }
+}
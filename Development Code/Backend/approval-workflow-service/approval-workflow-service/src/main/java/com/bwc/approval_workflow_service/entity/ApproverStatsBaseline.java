@@ -0,0 +1,47 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Decision totals per approver from approval_actions partitions already moved to archive files.
+ * Written only by the partition archiver; an approver_stats rebuild adds the live rows on top.
+ */
+@Entity
+@Table(name = "approver_stats_baseline")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApproverStatsBaseline {
+    @Id
+    @Column(name = "approver_id", columnDefinition = "uuid")
+    private UUID approverId;
+
+    @Column(name = "approver_role")
+    private String approverRole;
+
+    @Column(name = "approved_count", nullable = false)
+    private Long approvedCount;
+
+    @Column(name = "rejected_count", nullable = false)
+    private Long rejectedCount;
+
+    @Column(name = "returned_count", nullable = false)
+    private Long returnedCount;
+
+    @Column(name = "escalated_count", nullable = false)
+    private Long escalatedCount;
+
+    @Column(name = "processing_time_seconds_sum", nullable = false)
+    private Long processingTimeSecondsSum;
+
+    @Column(name = "processing_time_count", nullable = false)
+    private Long processingTimeCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
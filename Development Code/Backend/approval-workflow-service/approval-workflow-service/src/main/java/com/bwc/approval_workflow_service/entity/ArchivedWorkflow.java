@@ -0,0 +1,52 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A finished workflow moved out of approval_workflows. The full record is kept as the
+ * JSON of its DTO; only the columns needed to find or count it are broken out.
+ * Its workflow_bookings rows move along into {@code bookings}.
+ */
+@Entity
+@Table(name = "approval_workflows_archive", indexes = {
+        @Index(name = "idx_workflow_archive_request", columnList = "travel_request_id, workflow_type"),
+        // Exports read live and archived workflows together in (created_at, workflow_id) order
+        @Index(name = "idx_workflow_archive_created", columnList = "created_at, workflow_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedWorkflow {
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID workflowId;
+
+    @Column(name = "travel_request_id", nullable = false, columnDefinition = "uuid")
+    private UUID travelRequestId;
+
+    @Column(name = "workflow_type", nullable = false)
+    private String workflowType;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "bookings", columnDefinition = "TEXT")
+    private String bookings;
+}
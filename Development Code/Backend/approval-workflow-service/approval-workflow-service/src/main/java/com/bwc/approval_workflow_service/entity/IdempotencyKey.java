@@ -0,0 +1,34 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A claimed operation key and the resource it produced. Rows are written with
+ * INSERT ... ON CONFLICT DO NOTHING, so the primary key decides which caller wins.
+ */
+@Entity
+@Table(name = "idempotency_keys",
+       indexes = @Index(name = "idx_idempotency_keys_created", columnList = "created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyKey {
+    @Id
+    @Column(name = "idempotency_key", length = 200)
+    private String key;
+
+    @Column(name = "operation", nullable = false, length = 50)
+    private String operation;
+
+    // NULL while the claiming transaction is still running
+    @Column(name = "resource_id", columnDefinition = "uuid")
+    private UUID resourceId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
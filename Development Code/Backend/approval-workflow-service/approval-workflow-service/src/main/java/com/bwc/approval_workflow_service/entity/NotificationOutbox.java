@@ -0,0 +1,75 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "notification_outbox",
+       indexes = {
+               @Index(name = "idx_notification_outbox_status_next_attempt", columnList = "status, next_attempt_at"),
+               @Index(name = "idx_notification_outbox_digest", columnList = "user_id, digest, status")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "outbox_id", columnDefinition = "uuid")
+    private UUID outboxId;
+
+    @Column(name = "user_id", columnDefinition = "uuid")
+    private UUID userId;
+
+    @Column(name = "user_email")
+    private String userEmail;
+
+    @Column(name = "subject")
+    private String subject;
+
+    @Column(name = "message", length = 2000)
+    private String message;
+
+    @Column(name = "notification_type", length = 50)
+    private String notificationType;
+
+    @Column(name = "reference_id", columnDefinition = "uuid")
+    private UUID referenceId;
+
+    @Column(name = "reference_type", length = 50)
+    private String referenceType;
+
+    // Routine prompt that may be merged with others to the same recipient
+    @Column(name = "digest")
+    @Builder.Default
+    private Boolean digest = false;
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = "PENDING"; // PENDING, SENDING, SENT, FAILED
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,51 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Travel-request facts captured when the workflow starts, so later steps do not
+ * need travel-request-management. Refreshed only through the explicit snapshot API.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelRequestSnapshot {
+
+    @Column(name = "tr_employee_id", columnDefinition = "uuid")
+    private UUID employeeId;
+
+    @Column(name = "tr_manager_id", columnDefinition = "uuid")
+    private UUID managerId;
+
+    @Column(name = "tr_project_id", columnDefinition = "uuid")
+    private UUID projectId;
+
+    @Column(name = "tr_category_id", columnDefinition = "uuid")
+    private UUID categoryId;
+
+    @Column(name = "tr_start_date")
+    private LocalDate startDate;
+
+    @Column(name = "tr_end_date")
+    private LocalDate endDate;
+
+    @Column(name = "tr_purpose", length = 1000)
+    private String purpose;
+
+    @Column(name = "tr_estimated_budget")
+    private Double estimatedBudget;
+
+    @Column(name = "tr_destination")
+    private String destination;
+
+    @Column(name = "tr_captured_at")
+    private LocalDateTime capturedAt;
+}
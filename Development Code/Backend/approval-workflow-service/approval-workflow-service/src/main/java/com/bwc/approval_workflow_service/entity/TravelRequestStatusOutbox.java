@@ -0,0 +1,45 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Latest travel-request status still to be shipped to travel-request-management.
+ * One row per request: newer statuses overwrite older ones and bump {@code revision}.
+ */
+@Entity
+@Table(name = "travel_request_status_outbox",
+       indexes = @Index(name = "idx_status_outbox_next_attempt", columnList = "next_attempt_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TravelRequestStatusOutbox {
+    @Id
+    @Column(name = "travel_request_id", columnDefinition = "uuid")
+    private UUID travelRequestId;
+
+    @Column(name = "status", nullable = false, length = 50)
+    private String status;
+
+    @Column(name = "revision", nullable = false)
+    private Long revision;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
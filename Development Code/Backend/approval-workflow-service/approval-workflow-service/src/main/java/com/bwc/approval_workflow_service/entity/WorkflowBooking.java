@@ -0,0 +1,90 @@
+package com.bwc.approval_workflow_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One booking attached to a workflow during TRAVEL_DESK_BOOKING.
+ * Type-specific fields share generic columns (provider, item number, origin, destination, dates).
+ */
+@Entity
+@Table(name = "workflow_bookings",
+       indexes = @Index(name = "idx_workflow_bookings_workflow", columnList = "workflow_id, created_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkflowBooking {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(columnDefinition = "uuid")
+    private UUID bookingId;
+
+    @Column(name = "workflow_id", nullable = false, columnDefinition = "uuid")
+    private UUID workflowId;
+
+    @Column(name = "travel_request_id", nullable = false, columnDefinition = "uuid")
+    private UUID travelRequestId;
+
+    @Column(name = "booking_type", nullable = false, length = 20)
+    private String bookingType; // FLIGHT, HOTEL, TRAIN, CAR_RENTAL, OTHER
+
+    @Column(name = "other_type", length = 50)
+    private String otherType;         // type as submitted for "other" bookings, e.g. VISA
+
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private String status = "CONFIRMED";
+
+    @Column(name = "provider")
+    private String provider;          // airline, hotel or rental company
+
+    @Column(name = "item_number")
+    private String itemNumber;        // flight number or car type
+
+    @Column(name = "origin")
+    private String origin;            // departure airport, hotel location or pickup location
+
+    @Column(name = "destination")
+    private String destination;
+
+    @Column(name = "start_date", length = 50)
+    private String startDate;
+
+    @Column(name = "end_date", length = 50)
+    private String endDate;
+
+    @Column(name = "nights")
+    private Integer nights;
+
+    @Column(name = "details", length = 1000)
+    private String details;
+
+    @Column(name = "notes", length = 1000)
+    private String notes;
+
+    @Column(name = "booking_reference")
+    private String bookingReference;
+
+    @Column(name = "booking_date")
+    private LocalDateTime bookingDate;
+
+    @Column(name = "booking_amount")
+    private Double bookingAmount;
+
+    @Column(name = "currency", length = 3)
+    private String currency;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -2,6 +2,7 @@
 package com.bwc.approval_workflow_service.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -44,6 +45,22 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler({WorkflowConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<Object> handleConflict(RuntimeException ex, WebRequest request) {
+        log.warn("Workflow conflict: {}", ex.getMessage());
+        String message = ex instanceof WorkflowConflictException
+                ? ex.getMessage()
+                : "Workflow was modified concurrently, please reload and retry";
+        var body = Map.of(
+                "timestamp", LocalDateTime.now(),
+                "status", HttpStatus.CONFLICT.value(),
+                "error", HttpStatus.CONFLICT.getReasonPhrase(),
+                "message", message,
+                "path", request.getDescription(false)
+        );
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationErrors(MethodArgumentNotValidException ex, WebRequest request) {
         log.error("Validation errors: {}", ex.getMessage());
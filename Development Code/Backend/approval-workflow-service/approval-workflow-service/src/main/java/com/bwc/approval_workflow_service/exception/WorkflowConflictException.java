@@ -0,0 +1,16 @@
+package com.bwc.approval_workflow_service.exception;
+
+/**
+ * A concurrent update won the race for a workflow row and this request can no
+ * longer be applied as submitted. Clients should reload and decide again.
+ */
+public class WorkflowConflictException extends WorkflowException {
+
+    public WorkflowConflictException(String message) {
+        super(message);
+    }
+
+    public WorkflowConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -2,10 +2,15 @@ package com.bwc.approval_workflow_service.mapper;
 
 import com.bwc.approval_workflow_service.dto.ApprovalActionDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
+import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
 import com.bwc.approval_workflow_service.entity.ApprovalAction;
 import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.entity.TravelRequestSnapshot;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Component
 public class ApprovalWorkflowMapper {
 
@@ -32,6 +37,8 @@ public class ApprovalWorkflowMapper {
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .completedAt(entity.getCompletedAt())
+                .claimedBy(entity.getClaimedBy())
+                .claimExpiresAt(entity.getClaimExpiresAt())
                 .build();
     }
 
@@ -52,8 +59,42 @@ public class ApprovalWorkflowMapper {
                 .isEscalated(entity.getIsEscalated())
                 .amountApproved(entity.getAmountApproved())             // ✅ ensure exists
                 .reimbursementAmount(entity.getReimbursementAmount())   // ✅ ensure exists
+                .processingTimeSeconds(entity.getProcessingTimeSeconds())
                 .actionTakenAt(entity.getActionTakenAt())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
+
+    public TravelRequestSnapshot toSnapshot(TravelRequestProxyDTO travelRequest) {
+        if (travelRequest == null) return null;
+
+        return TravelRequestSnapshot.builder()
+                .employeeId(travelRequest.employeeId())
+                .managerId(travelRequest.managerId())
+                .projectId(travelRequest.projectId())
+                .categoryId(travelRequest.categoryId())
+                .startDate(travelRequest.startDate())
+                .endDate(travelRequest.endDate())
+                .purpose(travelRequest.purpose())
+                .estimatedBudget(travelRequest.estimatedBudget())
+                .destination(travelRequest.travelDestination())
+                .capturedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public TravelRequestProxyDTO toTravelRequest(UUID travelRequestId, TravelRequestSnapshot snapshot) {
+        if (snapshot == null) return null;
+
+        return new TravelRequestProxyDTO(
+                travelRequestId,
+                snapshot.getEmployeeId(),
+                snapshot.getProjectId(),
+                snapshot.getStartDate(),
+                snapshot.getEndDate(),
+                snapshot.getPurpose(),
+                snapshot.getEstimatedBudget(),
+                snapshot.getDestination(),
+                snapshot.getManagerId(),
+                snapshot.getCategoryId());
+    }
 }
@@ -0,0 +1,207 @@
+package com.bwc.approval_workflow_service.mapper;
+
+import com.bwc.approval_workflow_service.dto.BookingDetailsDTO;
+import com.bwc.approval_workflow_service.dto.TravelBookingDTO;
+import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.entity.WorkflowBooking;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class WorkflowBookingMapper {
+
+    public TravelBookingDTO toDto(WorkflowBooking entity) {
+        if (entity == null) return null;
+
+        return TravelBookingDTO.builder()
+                .bookingId(entity.getBookingId())
+                .bookingType(TravelBookingDTO.BookingType.valueOf(entity.getBookingType()))
+                .details(entity.getDetails() != null ? entity.getDetails() : describe(entity))
+                .notes(entity.getNotes())
+                .bookingReference(entity.getBookingReference())
+                .bookingDate(entity.getBookingDate())
+                .bookingAmount(entity.getBookingAmount())
+                .currency(entity.getCurrency())
+                .status(entity.getStatus())
+                .createdAt(entity.getCreatedAt())
+                .travelRequestId(entity.getTravelRequestId())
+                .workflowId(entity.getWorkflowId())
+                .build();
+    }
+
+    public WorkflowBooking toEntity(ApprovalWorkflow workflow, TravelBookingDTO dto) {
+        String details = dto.getDetails();
+        WorkflowBooking.WorkflowBookingBuilder booking = WorkflowBooking.builder()
+                .workflowId(workflow.getWorkflowId())
+                .travelRequestId(workflow.getTravelRequestId())
+                .bookingType(dto.getBookingType().name())
+                .status(dto.getStatus() != null ? dto.getStatus() : "CONFIRMED")
+                .details(details)
+                .notes(dto.getNotes())
+                .bookingReference(dto.getBookingReference())
+                .bookingDate(dto.getBookingDate())
+                .bookingAmount(dto.getBookingAmount())
+                .currency(dto.getCurrency())
+                .startDate(dto.getBookingDate() != null ? dto.getBookingDate().toString() : null);
+
+        switch (dto.getBookingType()) {
+            case FLIGHT -> booking.provider(firstWord(details, "Unknown Airline")).itemNumber(flightNumber(details));
+            case HOTEL -> booking.provider(beforeDash(details, "Unknown Hotel"));
+            case CAR_RENTAL -> booking.provider(beforeDash(details, "Unknown Rental Company"));
+            default -> { }
+        }
+        return booking.build();
+    }
+
+    /**
+     * Legacy nested document -> rows, used by the booking-details update and the JSON migration.
+     */
+    public List<WorkflowBooking> fromBookingDetails(ApprovalWorkflow workflow, BookingDetailsDTO details) {
+        List<WorkflowBooking> rows = new ArrayList<>();
+        if (details == null) return rows;
+
+        if (details.getFlightBookings() != null) {
+            details.getFlightBookings().forEach(f -> rows.add(base(workflow, "FLIGHT", f.getAmount(), f.getBookingReference(), f.getStatus())
+                    .provider(f.getAirline())
+                    .itemNumber(f.getFlightNumber())
+                    .origin(f.getDepartureAirport())
+                    .destination(f.getArrivalAirport())
+                    .startDate(f.getDepartureDate())
+                    .endDate(f.getArrivalDate())
+                    .build()));
+        }
+        if (details.getHotelBookings() != null) {
+            details.getHotelBookings().forEach(h -> rows.add(base(workflow, "HOTEL", h.getAmount(), h.getBookingReference(), h.getStatus())
+                    .provider(h.getHotelName())
+                    .origin(h.getLocation())
+                    .startDate(h.getCheckInDate())
+                    .endDate(h.getCheckOutDate())
+                    .nights(h.getNumberOfNights())
+                    .build()));
+        }
+        if (details.getCarRentals() != null) {
+            details.getCarRentals().forEach(c -> rows.add(base(workflow, "CAR_RENTAL", c.getAmount(), c.getBookingReference(), c.getStatus())
+                    .provider(c.getRentalCompany())
+                    .itemNumber(c.getCarType())
+                    .origin(c.getPickupLocation())
+                    .startDate(c.getPickupDate())
+                    .endDate(c.getDropoffDate())
+                    .build()));
+        }
+        if (details.getOtherBookings() != null) {
+            details.getOtherBookings().forEach(o -> rows.add(base(workflow, otherType(o.getType()), o.getAmount(), o.getBookingReference(), o.getStatus())
+                    .otherType(o.getType())
+                    .details(o.getDescription())
+                    .startDate(o.getDate())
+                    .build()));
+        }
+        return rows;
+    }
+
+    /**
+     * Rows -> the nested document shape still returned by the booking summary.
+     */
+    public BookingDetailsDTO toBookingDetails(List<WorkflowBooking> bookings, Double totalBookingAmount, String bookingNotes) {
+        List<BookingDetailsDTO.FlightBookingDTO> flights = new ArrayList<>();
+        List<BookingDetailsDTO.HotelBookingDTO> hotels = new ArrayList<>();
+        List<BookingDetailsDTO.CarRentalDTO> cars = new ArrayList<>();
+        List<BookingDetailsDTO.OtherBookingDTO> others = new ArrayList<>();
+
+        for (WorkflowBooking b : bookings) {
+            switch (b.getBookingType()) {
+                case "FLIGHT" -> flights.add(BookingDetailsDTO.FlightBookingDTO.builder()
+                        .airline(b.getProvider())
+                        .flightNumber(b.getItemNumber())
+                        .departureAirport(b.getOrigin())
+                        .arrivalAirport(b.getDestination())
+                        .departureDate(b.getStartDate())
+                        .arrivalDate(b.getEndDate())
+                        .amount(b.getBookingAmount())
+                        .bookingReference(b.getBookingReference())
+                        .status(b.getStatus())
+                        .build());
+                case "HOTEL" -> hotels.add(BookingDetailsDTO.HotelBookingDTO.builder()
+                        .hotelName(b.getProvider())
+                        .location(b.getOrigin())
+                        .checkInDate(b.getStartDate())
+                        .checkOutDate(b.getEndDate())
+                        .numberOfNights(b.getNights())
+                        .amount(b.getBookingAmount())
+                        .bookingReference(b.getBookingReference())
+                        .status(b.getStatus())
+                        .build());
+                case "CAR_RENTAL" -> cars.add(BookingDetailsDTO.CarRentalDTO.builder()
+                        .rentalCompany(b.getProvider())
+                        .carType(b.getItemNumber())
+                        .pickupLocation(b.getOrigin())
+                        .pickupDate(b.getStartDate())
+                        .dropoffDate(b.getEndDate())
+                        .amount(b.getBookingAmount())
+                        .bookingReference(b.getBookingReference())
+                        .status(b.getStatus())
+                        .build());
+                default -> others.add(BookingDetailsDTO.OtherBookingDTO.builder()
+                        .type(b.getOtherType() != null ? b.getOtherType() : b.getBookingType())
+                        .description(b.getDetails())
+                        .date(b.getStartDate())
+                        .amount(b.getBookingAmount())
+                        .bookingReference(b.getBookingReference())
+                        .status(b.getStatus())
+                        .build());
+            }
+        }
+
+        return BookingDetailsDTO.builder()
+                .flightBookings(flights.isEmpty() ? null : flights)
+                .hotelBookings(hotels.isEmpty() ? null : hotels)
+                .carRentals(cars.isEmpty() ? null : cars)
+                .otherBookings(others.isEmpty() ? null : others)
+                .totalBookingAmount(totalBookingAmount)
+                .bookingNotes(bookingNotes)
+                .build();
+    }
+
+    private WorkflowBooking.WorkflowBookingBuilder base(ApprovalWorkflow workflow, String type, Double amount,
+                                                        String reference, String status) {
+        return WorkflowBooking.builder()
+                .workflowId(workflow.getWorkflowId())
+                .travelRequestId(workflow.getTravelRequestId())
+                .bookingType(type)
+                .bookingAmount(amount)
+                .bookingReference(reference)
+                .status(status != null ? status : "CONFIRMED");
+    }
+
+    private String otherType(String type) {
+        return "TRAIN".equalsIgnoreCase(type) ? "TRAIN" : "OTHER";
+    }
+
+    private String describe(WorkflowBooking b) {
+        return switch (b.getBookingType()) {
+            case "FLIGHT" -> String.format("%s %s - %s to %s", b.getProvider(), b.getItemNumber(), b.getOrigin(), b.getDestination());
+            case "HOTEL" -> String.format("%s - %s", b.getProvider(), b.getOrigin());
+            case "CAR_RENTAL" -> String.format("%s - %s", b.getProvider(), b.getItemNumber());
+            default -> null;
+        };
+    }
+
+    private String firstWord(String details, String fallback) {
+        return details == null ? fallback : details.split(" ")[0];
+    }
+
+    private String beforeDash(String details, String fallback) {
+        return details == null ? fallback : details.split("-")[0].trim();
+    }
+
+    private String flightNumber(String details) {
+        if (details == null) return "";
+        for (String part : details.split(" ")) {
+            if (part.matches(".*\\d+.*")) {
+                return part;
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,26 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.ActionArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ActionArchiveRepository extends JpaRepository<ActionArchive, UUID> {
+
+    Optional<ActionArchive> findByPartitionName(String partitionName);
+
+    List<ActionArchive> findAllByOrderByPeriodStartAsc();
+
+    @Query("""
+            SELECT a FROM ActionArchive a
+            WHERE a.archiveId IN (SELECT r.archiveId FROM ActionArchiveRef r WHERE r.travelRequestId = :travelRequestId)
+            ORDER BY a.periodStart DESC
+            """)
+    List<ActionArchive> findByTravelRequestId(@Param("travelRequestId") UUID travelRequestId);
+}
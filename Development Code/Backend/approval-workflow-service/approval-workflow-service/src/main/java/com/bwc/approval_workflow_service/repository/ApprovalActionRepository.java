@@ -2,7 +2,10 @@ package com.bwc.approval_workflow_service.repository;
 
 import com.bwc.approval_workflow_service.entity.ApprovalAction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -10,4 +13,13 @@ import java.util.UUID;
 public interface ApprovalActionRepository extends JpaRepository<ApprovalAction, UUID> {
     List<ApprovalAction> findByTravelRequestIdOrderByCreatedAtDesc(UUID travelRequestId);
     List<ApprovalAction> findByWorkflowIdOrderByCreatedAtDesc(UUID workflowId);
+
+    interface HistoryStamp {
+        long getActions();
+        LocalDateTime getLatest();
+    }
+
+    // Answered from idx_action_travel_request; actions are append-only, so count and latest identify the history
+    @Query("SELECT COUNT(a) AS actions, MAX(a.createdAt) AS latest FROM ApprovalAction a WHERE a.travelRequestId = :travelRequestId")
+    HistoryStamp findHistoryStamp(@Param("travelRequestId") UUID travelRequestId);
 }
\ No newline at end of file
@@ -1,22 +1,31 @@
 package com.bwc.approval_workflow_service.repository;
 
 import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.entity.TravelRequestSnapshot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ApprovalWorkflowRepository extends JpaRepository<ApprovalWorkflow, UUID> {
+public interface ApprovalWorkflowRepository extends JpaRepository<ApprovalWorkflow, UUID>,
+        JpaSpecificationExecutor<ApprovalWorkflow> {
 
     Optional<ApprovalWorkflow> findByTravelRequestId(UUID travelRequestId);
 
     // ✅ Add this new method
     Optional<ApprovalWorkflow> findByTravelRequestIdAndWorkflowType(UUID travelRequestId, String workflowType);
 
+    boolean existsByTravelRequestIdAndWorkflowType(UUID travelRequestId, String workflowType);
+
     List<ApprovalWorkflow> findByCurrentApproverRoleAndStatus(String approverRole, String status);
     List<ApprovalWorkflow> findByCurrentApproverIdAndStatus(UUID approverId, String status);
     List<ApprovalWorkflow> findByStatus(String status);
@@ -29,7 +38,289 @@ public interface ApprovalWorkflowRepository extends JpaRepository<ApprovalWorkfl
     long countByCurrentApproverRoleAndStatus(String approverRole, String status);
 
     List<ApprovalWorkflow> findByStatusAndCurrentStep(String status, String currentStep);
+
+    interface VersionStamp {
+        UUID getWorkflowId();
+        Long getVersion();
+        LocalDateTime getUpdatedAt();
+    }
+
+    // Version-only reads for conditional GETs; never materialize the entity
+    @Query("SELECT w.workflowId AS workflowId, w.version AS version, w.updatedAt AS updatedAt " +
+           "FROM ApprovalWorkflow w WHERE w.workflowId = :workflowId")
+    Optional<VersionStamp> findVersionStampById(@Param("workflowId") UUID workflowId);
+
+    @Query("SELECT w.workflowId AS workflowId, w.version AS version, w.updatedAt AS updatedAt " +
+           "FROM ApprovalWorkflow w WHERE w.travelRequestId = :travelRequestId ORDER BY w.workflowId")
+    List<VersionStamp> findVersionStampsByTravelRequestId(@Param("travelRequestId") UUID travelRequestId);
     
     // Add this method for metrics
     long count();
+
+    // SLA refill: pending steps falling due before the horizon (range scan on idx_workflow_sla_due)
+    @Query(value = """
+            SELECT workflow_id AS workflowId, due_date AS deadline FROM approval_workflows
+            WHERE status = 'PENDING' AND is_overdue = false AND due_date < :horizon
+            ORDER BY due_date
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<SlaDeadline> findDueBefore(@Param("horizon") LocalDateTime horizon, @Param("limit") int limit);
+
+    // SLA refill: overdue steps whose escalation point falls before the horizon
+    @Query(value = """
+            SELECT workflow_id AS workflowId, overdue_since AS deadline FROM approval_workflows
+            WHERE status = 'PENDING' AND is_overdue = true AND overdue_since < :overdueBefore
+            ORDER BY overdue_since
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<SlaDeadline> findOverdueSince(@Param("overdueBefore") LocalDateTime overdueBefore, @Param("limit") int limit);
+
+    interface SlaDeadline {
+        UUID getWorkflowId();
+        LocalDateTime getDeadline();
+    }
+
+    List<ApprovalWorkflow> findByIsOverdueTrueAndStatus(String status);
+
+    interface ApproverLoad {
+        UUID getApproverId();
+        long getPending();
+    }
+
+    @Query(value = """
+            SELECT current_approver_id AS approverId, COUNT(*) AS pending
+            FROM approval_workflows
+            WHERE status = 'PENDING' AND current_approver_id IS NOT NULL
+            GROUP BY current_approver_id
+            """, nativeQuery = true)
+    List<ApproverLoad> countPendingByApprover();
+
+    // Workflows whose bookings still live only in the legacy booking_details JSON
+    List<ApprovalWorkflow> findTop100ByBookingCountIsNull();
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE approval_workflows SET is_overdue = false WHERE is_overdue IS NULL", nativeQuery = true)
+    int backfillOverdueFlag();
+
+    interface StatusAggregate {
+        String getStatus();
+        long getTotal();
+        long getTimedCount();
+        double getDurationSeconds();
+    }
+
+    // Counts and completion durations for every status, live and archived, in one pass
+    @Query(value = """
+            SELECT status AS status,
+                   COUNT(*) AS total,
+                   COUNT(completed_at) AS timedCount,
+                   COALESCE(SUM(EXTRACT(EPOCH FROM (completed_at - created_at))), 0) AS durationSeconds
+            FROM (SELECT status, created_at, completed_at FROM approval_workflows
+                  UNION ALL
+                  SELECT status, created_at, completed_at FROM approval_workflows_archive) w
+            GROUP BY status
+            """, nativeQuery = true)
+    List<StatusAggregate> aggregateByStatus();
+
+    interface ReassignedWorkflow {
+        UUID getWorkflowId();
+        UUID getTravelRequestId();
+        String getWorkflowType();
+        String getStatus();
+        String getCurrentStep();
+        String getPreviousRole();
+        String getNewRole();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * Move every PENDING workflow of one approver to another and write one REASSIGN action per row,
+     * all in a single statement. Step and type filters are optional. Claims are dropped and version is
+     * bumped so a transition holding a stale copy conflicts instead of overwriting the new approver.
+     */
+    @Transactional
+    @Query(value = """
+            WITH moved AS (
+                UPDATE approval_workflows w
+                SET current_approver_id = :toApproverId,
+                    current_approver_role = COALESCE(CAST(:toRole AS varchar), w.current_approver_role),
+                    claimed_by = NULL, claim_expires_at = NULL,
+                    updated_at = :now, version = w.version + 1
+                FROM (SELECT workflow_id, current_approver_role AS previous_role FROM approval_workflows
+                      WHERE current_approver_id = :fromApproverId AND status = 'PENDING'
+                        AND (CAST(:step AS varchar) IS NULL OR current_step = CAST(:step AS varchar))
+                        AND (CAST(:workflowType AS varchar) IS NULL OR workflow_type = CAST(:workflowType AS varchar))
+                      FOR UPDATE) old
+                WHERE w.workflow_id = old.workflow_id
+                RETURNING w.workflow_id, w.travel_request_id, w.workflow_type, w.status, w.current_step,
+                          old.previous_role, w.current_approver_role AS new_role, w.created_at
+            ), audit AS (
+                INSERT INTO approval_actions (action_id, workflow_id, travel_request_id, approver_role, approver_id,
+                                              action, step, comments, is_escalated, action_taken_at, created_at)
+                SELECT gen_random_uuid(), workflow_id, travel_request_id, new_role, :reassignedBy,
+                       'REASSIGN', current_step, :comments, false, :now, :now
+                FROM moved
+            )
+            SELECT workflow_id AS workflowId, travel_request_id AS travelRequestId, workflow_type AS workflowType,
+                   status AS status, current_step AS currentStep, previous_role AS previousRole,
+                   new_role AS newRole, created_at AS createdAt
+            FROM moved
+            """, nativeQuery = true)
+    List<ReassignedWorkflow> bulkReassign(@Param("fromApproverId") UUID fromApproverId,
+                                          @Param("toApproverId") UUID toApproverId,
+                                          @Param("toRole") String toRole,
+                                          @Param("step") String step,
+                                          @Param("workflowType") String workflowType,
+                                          @Param("reassignedBy") UUID reassignedBy,
+                                          @Param("comments") String comments,
+                                          @Param("now") LocalDateTime now);
+
+    // Oldest finished workflows, locked for the move to approval_workflows_archive
+    @Query(value = """
+            SELECT * FROM approval_workflows
+            WHERE status IN ('APPROVED', 'COMPLETED', 'REJECTED') AND completed_at < :cutoff
+            ORDER BY completed_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ApprovalWorkflow> lockArchivable(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // Keyset inbox pages: (priority_rank, due_date, workflow_id) is the sort key and the cursor.
+    // Workflows without a due date sort last; InboxSortKeyBackfill creates matching expression indexes.
+    @Query(value = """
+            SELECT * FROM approval_workflows
+            WHERE current_approver_id = :approverId AND status = 'PENDING'
+            ORDER BY priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ApprovalWorkflow> findInboxFirstPageByApprover(@Param("approverId") UUID approverId,
+                                                        @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM approval_workflows
+            WHERE current_approver_id = :approverId AND status = 'PENDING'
+              AND (priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id)
+                  > (:rank, COALESCE(CAST(:dueDate AS timestamp), 'infinity'::timestamp), :workflowId)
+            ORDER BY priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ApprovalWorkflow> findInboxPageByApprover(@Param("approverId") UUID approverId,
+                                                   @Param("rank") int rank,
+                                                   @Param("dueDate") LocalDateTime dueDate,
+                                                   @Param("workflowId") UUID workflowId,
+                                                   @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM approval_workflows
+            WHERE current_approver_role = :role AND status = 'PENDING'
+            ORDER BY priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ApprovalWorkflow> findInboxFirstPageByRole(@Param("role") String role,
+                                                    @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT * FROM approval_workflows
+            WHERE current_approver_role = :role AND status = 'PENDING'
+              AND (priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id)
+                  > (:rank, COALESCE(CAST(:dueDate AS timestamp), 'infinity'::timestamp), :workflowId)
+            ORDER BY priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ApprovalWorkflow> findInboxPageByRole(@Param("role") String role,
+                                               @Param("rank") int rank,
+                                               @Param("dueDate") LocalDateTime dueDate,
+                                               @Param("workflowId") UUID workflowId,
+                                               @Param("limit") int limit);
+
+    /**
+     * Lease up to {@code limit} PENDING workflows of a role to one agent, in inbox order: pooled ones and
+     * ones assigned to the agent. The agent's own live claims are included (and renewed), so repeating the
+     * call returns the same batch.
+     * Rows locked by a concurrent claim are skipped, not waited on. Version is bumped so a transition
+     * holding a pre-claim copy conflicts rather than wiping the lease.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE approval_workflows SET claimed_by = :agentId, claim_expires_at = :leaseUntil,
+                   version = version + 1
+            WHERE workflow_id IN (
+                SELECT workflow_id FROM approval_workflows
+                WHERE current_approver_role = :role
+                  AND status = 'PENDING'
+                  AND (current_approver_id IS NULL OR current_approver_id = :agentId)
+                  AND (claimed_by IS NULL OR claim_expires_at < :now OR claimed_by = :agentId)
+                ORDER BY priority_rank, COALESCE(due_date, 'infinity'::timestamp), workflow_id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<ApprovalWorkflow> claimPooled(@Param("role") String role,
+                                       @Param("agentId") UUID agentId,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("leaseUntil") LocalDateTime leaseUntil,
+                                       @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE approval_workflows SET claim_expires_at = :leaseUntil, version = version + 1
+            WHERE workflow_id IN (:workflowIds) AND claimed_by = :agentId AND claim_expires_at >= :now
+            """, nativeQuery = true)
+    int renewClaims(@Param("agentId") UUID agentId,
+                    @Param("workflowIds") List<UUID> workflowIds,
+                    @Param("now") LocalDateTime now,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE approval_workflows SET claimed_by = NULL, claim_expires_at = NULL, version = version + 1
+            WHERE workflow_id IN (:workflowIds) AND claimed_by = :agentId
+            """, nativeQuery = true)
+    int releaseClaims(@Param("agentId") UUID agentId, @Param("workflowIds") List<UUID> workflowIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE approval_workflows SET claimed_by = NULL, claim_expires_at = NULL, version = version + 1
+            WHERE claimed_by = :agentId
+            """, nativeQuery = true)
+    int releaseAllClaims(@Param("agentId") UUID agentId);
+
+    // Bumps version so a transition that loaded the old snapshot conflicts instead of writing it back
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE ApprovalWorkflow w SET
+                w.travelRequestSnapshot.employeeId = :#{#s.employeeId},
+                w.travelRequestSnapshot.managerId = COALESCE(:#{#s.managerId}, w.travelRequestSnapshot.managerId),
+                w.travelRequestSnapshot.projectId = :#{#s.projectId},
+                w.travelRequestSnapshot.categoryId = COALESCE(:#{#s.categoryId}, w.travelRequestSnapshot.categoryId),
+                w.travelRequestSnapshot.startDate = :#{#s.startDate},
+                w.travelRequestSnapshot.endDate = :#{#s.endDate},
+                w.travelRequestSnapshot.purpose = :#{#s.purpose},
+                w.travelRequestSnapshot.estimatedBudget = :#{#s.estimatedBudget},
+                w.travelRequestSnapshot.destination = :#{#s.destination},
+                w.travelRequestSnapshot.capturedAt = :#{#s.capturedAt},
+                w.version = w.version + 1,
+                w.updatedAt = CURRENT_TIMESTAMP
+            WHERE w.travelRequestId = :travelRequestId
+            """)
+    int refreshTravelRequestSnapshot(@Param("travelRequestId") UUID travelRequestId,
+                                     @Param("s") TravelRequestSnapshot snapshot);
+
+    // Rows written before priority_rank existed; NULLs would fall out of the row comparisons above.
+    // Derived from priority alone, so version is left alone like other cache-column maintenance.
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE approval_workflows SET
+                priority_rank = CASE UPPER(COALESCE(priority, 'NORMAL'))
+                    WHEN 'URGENT' THEN 0 WHEN 'CRITICAL' THEN 0
+                    WHEN 'HIGH' THEN 1 WHEN 'LOW' THEN 3 ELSE 2 END
+            WHERE priority_rank IS NULL
+            """, nativeQuery = true)
+    int backfillInboxSortKeys();
 }
@@ -0,0 +1,89 @@
+package com.bwc.approval_workflow_service.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.bwc.approval_workflow_service.dto.WorkflowSearchCriteria;
+import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.workflow.SearchCursor;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Builds the admin search query: only the criteria that are set become predicates,
+ * so Postgres plans each combination against the matching composite index.
+ */
+public final class ApprovalWorkflowSpecifications {
+
+    private ApprovalWorkflowSpecifications() {
+    }
+
+    public static Specification<ApprovalWorkflow> matching(WorkflowSearchCriteria criteria, SearchCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            List<String> statuses = upper(criteria.getStatus());
+            if (!statuses.isEmpty()) {
+                predicates.add(root.get("status").in(statuses));
+            }
+            if (hasText(criteria.getCurrentStep())) {
+                predicates.add(cb.equal(root.get("currentStep"), criteria.getCurrentStep().trim().toUpperCase()));
+            }
+            if (hasText(criteria.getWorkflowType())) {
+                predicates.add(cb.equal(root.get("workflowType"), criteria.getWorkflowType().trim().toUpperCase()));
+            }
+            List<String> priorities = upper(criteria.getPriority());
+            if (!priorities.isEmpty()) {
+                predicates.add(root.get("priority").in(priorities));
+            }
+            if (criteria.getApproverId() != null) {
+                predicates.add(cb.equal(root.get("currentApproverId"), criteria.getApproverId()));
+            }
+            if (hasText(criteria.getApproverRole())) {
+                predicates.add(cb.equal(root.get("currentApproverRole"), criteria.getApproverRole().trim().toUpperCase()));
+            }
+            if (criteria.getTravelRequestId() != null) {
+                predicates.add(cb.equal(root.get("travelRequestId"), criteria.getTravelRequestId()));
+            }
+            if (criteria.getOverdue() != null) {
+                predicates.add(cb.equal(root.get("isOverdue"), criteria.getOverdue()));
+            }
+            if (criteria.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dueDate"), criteria.getDueFrom()));
+            }
+            if (criteria.getDueTo() != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get("dueDate"), criteria.getDueTo()));
+            }
+            if (criteria.getMinEstimatedCost() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Double>get("estimatedCost"), criteria.getMinEstimatedCost()));
+            }
+            if (criteria.getMaxEstimatedCost() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<Double>get("estimatedCost"), criteria.getMaxEstimatedCost()));
+            }
+
+            // Keyset: rows strictly after the cursor in (createdAt DESC, workflowId DESC) order
+            if (after != null) {
+                predicates.add(cb.or(
+                        cb.lessThan(root.<LocalDateTime>get("createdAt"), after.createdAt()),
+                        cb.and(cb.equal(root.get("createdAt"), after.createdAt()),
+                               cb.lessThan(root.<UUID>get("workflowId"), after.workflowId()))));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static List<String> upper(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().filter(ApprovalWorkflowSpecifications::hasText).map(v -> v.trim().toUpperCase()).toList();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
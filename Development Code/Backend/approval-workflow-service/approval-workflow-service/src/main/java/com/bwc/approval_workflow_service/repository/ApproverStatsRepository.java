@@ -0,0 +1,76 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.ApproverStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Repository
+public interface ApproverStatsRepository extends JpaRepository<ApproverStats, UUID> {
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO approver_stats (approver_id, approver_role, approved_count, rejected_count,
+                returned_count, escalated_count, processing_time_seconds_sum, processing_time_count, updated_at)
+            VALUES (:approverId, :approverRole, :approved, :rejected, :returned, :escalated,
+                :processingSeconds, :processingCount, NOW())
+            ON CONFLICT (approver_id) DO UPDATE SET
+                approver_role = EXCLUDED.approver_role,
+                approved_count = approver_stats.approved_count + EXCLUDED.approved_count,
+                rejected_count = approver_stats.rejected_count + EXCLUDED.rejected_count,
+                returned_count = approver_stats.returned_count + EXCLUDED.returned_count,
+                escalated_count = approver_stats.escalated_count + EXCLUDED.escalated_count,
+                processing_time_seconds_sum = approver_stats.processing_time_seconds_sum + EXCLUDED.processing_time_seconds_sum,
+                processing_time_count = approver_stats.processing_time_count + EXCLUDED.processing_time_count,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int increment(@Param("approverId") UUID approverId,
+                  @Param("approverRole") String approverRole,
+                  @Param("approved") long approved,
+                  @Param("rejected") long rejected,
+                  @Param("returned") long returned,
+                  @Param("escalated") long escalated,
+                  @Param("processingSeconds") long processingSeconds,
+                  @Param("processingCount") long processingCount);
+
+    @Modifying
+    @Query(value = "DELETE FROM approver_stats", nativeQuery = true)
+    int deleteAllRows();
+
+    // Live actions plus the totals of partitions already archived to files (approver_stats_baseline)
+    @Modifying
+    @Query(value = """
+            INSERT INTO approver_stats (approver_id, approver_role, approved_count, rejected_count,
+                returned_count, escalated_count, processing_time_seconds_sum, processing_time_count, updated_at)
+            SELECT approver_id, MAX(approver_role), SUM(approved_count), SUM(rejected_count),
+                   SUM(returned_count), SUM(escalated_count), SUM(processing_time_seconds_sum),
+                   SUM(processing_time_count), NOW()
+            FROM (
+                SELECT approver_id,
+                       MAX(approver_role) AS approver_role,
+                       COUNT(*) FILTER (WHERE action = 'APPROVE') AS approved_count,
+                       COUNT(*) FILTER (WHERE action = 'REJECT') AS rejected_count,
+                       COUNT(*) FILTER (WHERE action = 'RETURN') AS returned_count,
+                       COUNT(*) FILTER (WHERE action = 'ESCALATE') AS escalated_count,
+                       COALESCE(SUM(processing_time_seconds) FILTER (WHERE action IN ('APPROVE', 'REJECT', 'RETURN')), 0)
+                           AS processing_time_seconds_sum,
+                       COUNT(processing_time_seconds) FILTER (WHERE action IN ('APPROVE', 'REJECT', 'RETURN'))
+                           AS processing_time_count
+                FROM approval_actions
+                WHERE approver_id IS NOT NULL AND action IN ('APPROVE', 'REJECT', 'RETURN', 'ESCALATE')
+                GROUP BY approver_id
+                UNION ALL
+                SELECT approver_id, approver_role, approved_count, rejected_count, returned_count,
+                       escalated_count, processing_time_seconds_sum, processing_time_count
+                FROM approver_stats_baseline
+            ) totals
+            GROUP BY approver_id
+            """, nativeQuery = true)
+    int rebuildFromActions();
+}
@@ -0,0 +1,25 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.ArchivedWorkflow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedWorkflowRepository extends JpaRepository<ArchivedWorkflow, UUID> {
+
+    Optional<ArchivedWorkflow> findFirstByTravelRequestIdOrderByCreatedAtDesc(UUID travelRequestId);
+
+    @Query("SELECT a.archivedAt FROM ArchivedWorkflow a WHERE a.workflowId = :workflowId")
+    Optional<LocalDateTime> findArchivedAtById(@Param("workflowId") UUID workflowId);
+
+    @Query("SELECT MAX(a.archivedAt) FROM ArchivedWorkflow a WHERE a.travelRequestId = :travelRequestId")
+    LocalDateTime findLatestArchivedAtByTravelRequestId(@Param("travelRequestId") UUID travelRequestId);
+
+    Optional<ArchivedWorkflow> findByTravelRequestIdAndWorkflowType(UUID travelRequestId, String workflowType);
+}
@@ -0,0 +1,43 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Returns the key if this call inserted it, nothing if it already existed. A concurrent
+     * uncommitted insert of the same key blocks here until that transaction ends.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO idempotency_keys (idempotency_key, operation, resource_id, created_at)
+            VALUES (:key, :operation, :resourceId, :now)
+            ON CONFLICT (idempotency_key) DO NOTHING
+            RETURNING idempotency_key
+            """, nativeQuery = true)
+    List<String> insertIfAbsent(@Param("key") String key,
+                                @Param("operation") String operation,
+                                @Param("resourceId") UUID resourceId,
+                                @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.resourceId = :resourceId WHERE k.key = :key")
+    int bindResource(@Param("key") String key, @Param("resourceId") UUID resourceId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,101 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, UUID> {
+
+    // Claim due rows (and rows whose SENDING lease expired) without blocking other dispatchers
+    @Transactional
+    @Query(value = """
+            UPDATE notification_outbox SET status = 'SENDING', locked_until = :leaseUntil
+            WHERE outbox_id IN (
+                SELECT outbox_id FROM notification_outbox
+                WHERE (status = 'PENDING' AND next_attempt_at <= :now)
+                   OR (status = 'SENDING' AND locked_until < :now)
+                ORDER BY next_attempt_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<NotificationOutbox> claimBatch(@Param("now") LocalDateTime now,
+                                        @Param("leaseUntil") LocalDateTime leaseUntil,
+                                        @Param("batchSize") int batchSize);
+
+    // Pull a recipient's other queued digest items into the batch, even before their window ends.
+    // Items already in retry backoff wait for their own next_attempt_at.
+    @Transactional
+    @Query(value = """
+            UPDATE notification_outbox SET status = 'SENDING', locked_until = :leaseUntil
+            WHERE outbox_id IN (
+                SELECT outbox_id FROM notification_outbox
+                WHERE user_id = :userId AND digest = true AND status = 'PENDING'
+                  AND (attempts = 0 OR next_attempt_at <= :now)
+                ORDER BY created_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<NotificationOutbox> claimDigestItems(@Param("userId") UUID userId,
+                                              @Param("now") LocalDateTime now,
+                                              @Param("leaseUntil") LocalDateTime leaseUntil,
+                                              @Param("limit") int limit);
+
+    @Query("SELECT COUNT(o) FROM NotificationOutbox o WHERE o.userId = :userId AND o.digest = true AND o.status = 'PENDING'")
+    long countPendingDigest(@Param("userId") UUID userId);
+
+    // Flush a recipient's digest early once it is full
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.nextAttemptAt = :now " +
+           "WHERE o.userId = :userId AND o.digest = true AND o.status = 'PENDING' AND o.nextAttemptAt > :now")
+    int releaseDigest(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'SENT', o.sentAt = :sentAt, o.lockedUntil = null, " +
+           "o.attempts = o.attempts + 1, o.lastError = null WHERE o.outboxId IN :ids")
+    int markAllSent(@Param("ids") List<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = CASE WHEN o.attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lockedUntil = null, o.attempts = o.attempts + 1, o.lastError = :error " +
+           "WHERE o.outboxId IN :ids")
+    int markAllAttemptFailed(@Param("ids") List<UUID> ids,
+                             @Param("maxAttempts") int maxAttempts,
+                             @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                             @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = 'SENT', o.sentAt = :sentAt, o.lockedUntil = null, " +
+           "o.attempts = o.attempts + 1, o.lastError = null WHERE o.outboxId = :id")
+    int markSent(@Param("id") UUID id, @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status, o.nextAttemptAt = :nextAttemptAt, " +
+           "o.lockedUntil = null, o.attempts = o.attempts + 1, o.lastError = :error WHERE o.outboxId = :id")
+    int markAttemptFailed(@Param("id") UUID id,
+                          @Param("status") String status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = 'SENT' AND o.sentAt < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(String status);
+}
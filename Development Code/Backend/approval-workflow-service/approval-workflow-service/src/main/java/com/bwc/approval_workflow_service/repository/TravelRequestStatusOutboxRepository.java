@@ -0,0 +1,74 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.TravelRequestStatusOutbox;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TravelRequestStatusOutboxRepository extends JpaRepository<TravelRequestStatusOutbox, UUID> {
+
+    // Keep only the latest status per request; an in-flight lease is left alone so deliveries stay ordered.
+    // COMMIT flush mode stops this native statement from flushing the caller's pending entity batches.
+    @Modifying
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    @Query(value = """
+            INSERT INTO travel_request_status_outbox
+                (travel_request_id, status, revision, attempts, next_attempt_at, updated_at)
+            VALUES (:travelRequestId, :status, 1, 0, :now, :now)
+            ON CONFLICT (travel_request_id) DO UPDATE SET
+                status = EXCLUDED.status,
+                revision = travel_request_status_outbox.revision + 1,
+                attempts = 0,
+                next_attempt_at = EXCLUDED.next_attempt_at,
+                last_error = NULL,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int upsertLatest(@Param("travelRequestId") UUID travelRequestId,
+                     @Param("status") String status,
+                     @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Query(value = """
+            UPDATE travel_request_status_outbox SET locked_until = :leaseUntil
+            WHERE travel_request_id IN (
+                SELECT travel_request_id FROM travel_request_status_outbox
+                WHERE next_attempt_at <= :now
+                  AND (locked_until IS NULL OR locked_until < :now)
+                ORDER BY next_attempt_at
+                LIMIT :batchSize
+                FOR UPDATE SKIP LOCKED)
+            RETURNING *
+            """, nativeQuery = true)
+    List<TravelRequestStatusOutbox> claimBatch(@Param("now") LocalDateTime now,
+                                               @Param("leaseUntil") LocalDateTime leaseUntil,
+                                               @Param("batchSize") int batchSize);
+
+    @Modifying
+    @Query("DELETE FROM TravelRequestStatusOutbox o WHERE o.travelRequestId = :id AND o.revision = :revision")
+    int deleteDelivered(@Param("id") UUID travelRequestId, @Param("revision") Long revision);
+
+    // A newer status arrived while the old one was in flight: make it claimable right away
+    @Modifying
+    @Query("UPDATE TravelRequestStatusOutbox o SET o.lockedUntil = null, o.nextAttemptAt = :now " +
+           "WHERE o.travelRequestId = :id AND o.revision <> :revision")
+    int releaseSuperseded(@Param("id") UUID travelRequestId,
+                          @Param("revision") Long revision,
+                          @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TravelRequestStatusOutbox o SET o.lockedUntil = null, o.attempts = o.attempts + 1, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error WHERE o.travelRequestId = :id")
+    int markAttemptFailed(@Param("id") UUID travelRequestId,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("error") String error);
+}
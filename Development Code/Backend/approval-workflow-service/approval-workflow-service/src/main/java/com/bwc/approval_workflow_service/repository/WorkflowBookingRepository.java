@@ -0,0 +1,40 @@
+package com.bwc.approval_workflow_service.repository;
+
+import com.bwc.approval_workflow_service.entity.WorkflowBooking;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WorkflowBookingRepository extends JpaRepository<WorkflowBooking, UUID> {
+
+    List<WorkflowBooking> findByWorkflowIdOrderByCreatedAtAsc(UUID workflowId);
+
+    Optional<WorkflowBooking> findByBookingIdAndWorkflowId(UUID bookingId, UUID workflowId);
+
+    List<WorkflowBooking> findByWorkflowIdInOrderByCreatedAtAsc(Collection<UUID> workflowIds);
+
+    interface StatusCount {
+        String getStatus();
+        long getTotal();
+    }
+
+    @Query("SELECT b.status AS status, COUNT(b) AS total FROM WorkflowBooking b " +
+           "WHERE b.workflowId = :workflowId GROUP BY b.status")
+    List<StatusCount> countByStatus(@Param("workflowId") UUID workflowId);
+
+    @Modifying
+    @Query("DELETE FROM WorkflowBooking b WHERE b.workflowId = :workflowId")
+    int deleteByWorkflowId(@Param("workflowId") UUID workflowId);
+
+    @Modifying
+    @Query("DELETE FROM WorkflowBooking b WHERE b.workflowId IN :workflowIds")
+    int deleteByWorkflowIdIn(@Param("workflowIds") Collection<UUID> workflowIds);
+}
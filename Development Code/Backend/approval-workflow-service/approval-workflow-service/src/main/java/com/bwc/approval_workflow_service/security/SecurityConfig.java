@@ -38,7 +38,9 @@ public class SecurityConfig {
                     "/management/**",
                     // ✅ Allow both initiation endpoints (for internal service calls)
                     "/api/workflows/initiate",
-                    "/api/workflows/initiate-with-travel-request"
+                    "/api/workflows/initiate-with-travel-request",
+                    // ✅ Service-to-service hooks (gateway secret still required)
+                    "/api/internal/**"
                 ).permitAll()
 
                 // 🟢 Role-based endpoints
@@ -1,7 +1,9 @@
 package com.bwc.approval_workflow_service.service;
 
 import com.bwc.approval_workflow_service.dto.*;
+import com.bwc.approval_workflow_service.workflow.SlaOutcome;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface ApprovalWorkflowService {
@@ -12,31 +14,100 @@ public interface ApprovalWorkflowService {
     }
     
     // Existing method (keep for backward compatibility)
-    ApprovalWorkflowDTO initiateWorkflow(UUID travelRequestId, String workflowType, Double estimatedCost);
+    default ApprovalWorkflowDTO initiateWorkflow(UUID travelRequestId, String workflowType, Double estimatedCost) {
+        return initiateWorkflow(travelRequestId, workflowType, estimatedCost, null);
+    }
+
+    /**
+     * Idempotent: an existing workflow for the request and type (or one created under the same
+     * idempotency key) is returned instead of creating another.
+     */
+    ApprovalWorkflowDTO initiateWorkflow(UUID travelRequestId, String workflowType, Double estimatedCost, String idempotencyKey);
  
     // New optimized method
-    ApprovalWorkflowDTO initiateWorkflow(TravelRequestProxyDTO travelRequest, String workflowType, Double estimatedCost);
+    default ApprovalWorkflowDTO initiateWorkflow(TravelRequestProxyDTO travelRequest, String workflowType, Double estimatedCost) {
+        return initiateWorkflow(travelRequest, workflowType, estimatedCost, null);
+    }
+
+    ApprovalWorkflowDTO initiateWorkflow(TravelRequestProxyDTO travelRequest, String workflowType, Double estimatedCost, String idempotencyKey);
 
     ApprovalWorkflowDTO processApproval(ApprovalRequestDTO approvalRequest);
 
+    /**
+     * Apply one action to many workflows; items that fail validation or processing
+     * are reported individually and never roll back the others.
+     */
+    BulkApprovalResultDTO processBulkApproval(BulkApprovalRequestDTO bulkRequest, String approverRole, UUID approverId);
+
     ApprovalWorkflowDTO getWorkflowByRequestId(UUID travelRequestId);
 
     ApprovalWorkflowDTO getWorkflow(UUID workflowId);
 
+    // Version tags for conditional GETs, computed without loading the workflow; null when it does not exist
+    String getWorkflowETag(UUID workflowId);
+    String getWorkflowByRequestETag(UUID travelRequestId);
+    String getWorkflowHistoryETag(UUID travelRequestId);
+
     List<ApprovalWorkflowDTO> getPendingApprovals(String approverRole, UUID approverId);
 
     List<ApprovalWorkflowDTO> getPendingApprovalsByRole(String approverRole);
 
+    /**
+     * One keyset page of pending work, most urgent and earliest due first.
+     * When {@code approverId} is set the personal inbox is read, otherwise the role queue.
+     */
+    InboxPageDTO getInbox(String approverRole, UUID approverId, String cursor, Integer limit);
+
+    /**
+     * Combined-filter search, newest first, keyset-paged through {@link WorkflowSearchCriteria#getCursor()}.
+     */
+    WorkflowSearchPageDTO searchWorkflows(WorkflowSearchCriteria criteria);
+
+    /**
+     * Lease a batch of unassigned pending workflows of a role to one agent; other agents skip them until
+     * the lease is released, renewed past, or expires.
+     */
+    List<ApprovalWorkflowDTO> claimPendingByRole(String approverRole, UUID agentId, Integer limit);
+
+    int renewClaims(UUID agentId, List<UUID> workflowIds);
+
+    /**
+     * Release the given claims, or every claim held by the agent when {@code workflowIds} is empty.
+     */
+    int releaseClaims(UUID agentId, List<UUID> workflowIds);
+
     List<ApprovalWorkflowDTO> getWorkflowsByStatus(String status);
 
+    List<ApprovalWorkflowDTO> getOverdueWorkflows();
+
+    /**
+     * Apply SLA timeouts to the given workflows in one transaction: auto-approve steps that allow it,
+     * otherwise flag them overdue, and escalate workflows that stayed overdue too long.
+     * Each workflow is re-checked, so stale timers are reported as {@link SlaOutcome#SKIPPED}.
+     */
+    Map<UUID, SlaOutcome> processSlaTimeouts(List<UUID> workflowIds);
+
     List<ApprovalActionDTO> getWorkflowHistory(UUID travelRequestId);
 
     ApprovalWorkflowDTO escalateWorkflow(UUID workflowId, String reason, UUID escalatedBy);
 
     ApprovalWorkflowDTO reassignWorkflow(UUID workflowId, String newApproverRole, UUID newApproverId);
+    BulkReassignResultDTO bulkReassign(BulkReassignRequestDTO request);
 
     ApprovalWorkflowDTO updateWorkflowPriority(UUID workflowId, String priority);
 
+    List<HotWorkflowDTO> getHotWorkflows(int limit);
+
+    /**
+     * Live pending load per approver (committed count plus in-flight assignments) used for least-loaded assignment.
+     */
+    Map<UUID, Integer> getApproverLoads();
+
+    /**
+     * Overwrite the travel-request snapshot on every workflow of the request; returns the number of workflows updated.
+     */
+    int refreshTravelRequestSnapshot(UUID travelRequestId, TravelRequestProxyDTO travelRequest);
+
     WorkflowMetricsDTO getWorkflowMetrics();
 
     List<ApprovalStatsDTO> getApprovalStatsByApprover(UUID approverId);
@@ -0,0 +1,16 @@
+package com.bwc.approval_workflow_service.service;
+
+import java.util.UUID;
+
+import com.bwc.approval_workflow_service.dto.ApprovalStatsDTO;
+
+public interface ApproverStatsService {
+
+    ApprovalStatsDTO getStats(UUID approverId);
+
+    /**
+     * Recompute the whole approver_stats rollup from approval_actions.
+     * @return number of approver rows written
+     */
+    int rebuild();
+}
@@ -0,0 +1,17 @@
+package com.bwc.approval_workflow_service.service;
+
+import com.bwc.approval_workflow_service.dto.NotificationRequestDTO;
+
+public interface NotificationOutboxService {
+
+    /**
+     * Queue a notification in the caller's transaction; delivery happens after commit
+     * on the background dispatcher.
+     */
+    void enqueue(NotificationRequestDTO notification);
+
+    /**
+     * Claim and deliver one batch of due notifications.
+     */
+    int dispatchPending();
+}
@@ -0,0 +1,26 @@
+package com.bwc.approval_workflow_service.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
+
+/**
+ * Read-through near-cache in front of the employee and travel-request services.
+ * Remote failures propagate to the caller and are never cached.
+ */
+public interface RemoteLookupService {
+
+    EmployeeProxyDTO getEmployee(UUID employeeId);
+
+    TravelRequestProxyDTO getTravelRequest(UUID travelRequestId);
+
+    List<EmployeeProxyDTO> getEmployeesByRole(String role);
+
+    void evictEmployee(UUID employeeId);
+
+    void evictTravelRequest(UUID travelRequestId);
+
+    void evictAll();
+}
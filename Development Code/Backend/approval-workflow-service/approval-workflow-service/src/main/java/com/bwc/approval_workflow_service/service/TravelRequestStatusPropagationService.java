@@ -0,0 +1,17 @@
+package com.bwc.approval_workflow_service.service;
+
+import java.util.UUID;
+
+public interface TravelRequestStatusPropagationService {
+
+    /**
+     * Record the latest status of a travel request in the caller's transaction.
+     * Pending statuses for the same request are overwritten, so only the newest one is sent.
+     */
+    void enqueue(UUID travelRequestId, String status);
+
+    /**
+     * Claim due statuses and ship them to travel-request-management in one bulk call.
+     */
+    int dispatchPending();
+}
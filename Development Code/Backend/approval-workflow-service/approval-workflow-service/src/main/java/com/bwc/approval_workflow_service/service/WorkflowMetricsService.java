@@ -0,0 +1,16 @@
+package com.bwc.approval_workflow_service.service;
+
+import com.bwc.approval_workflow_service.dto.WorkflowMetricsDTO;
+
+public interface WorkflowMetricsService {
+
+    /**
+     * Current metrics from the in-memory snapshot; loads it from the database on first use.
+     */
+    WorkflowMetricsDTO getMetrics();
+
+    /**
+     * Rebuild the snapshot from a single aggregate query, discarding any drift.
+     */
+    void reconcile();
+}
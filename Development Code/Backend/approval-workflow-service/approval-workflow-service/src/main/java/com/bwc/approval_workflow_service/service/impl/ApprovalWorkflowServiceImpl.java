@@ -1,22 +1,35 @@
 package com.bwc.approval_workflow_service.service.impl;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
-import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
-import com.bwc.approval_workflow_service.client.NotificationServiceClient;
 import com.bwc.approval_workflow_service.client.PolicyServiceClient;
 import com.bwc.approval_workflow_service.client.TravelRequestServiceClient;
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
 import com.bwc.approval_workflow_service.dto.ApprovalActionDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalRequestDTO;
 import com.bwc.approval_workflow_service.dto.ApprovalStatsDTO;
@@ -24,23 +37,51 @@ import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
 import com.bwc.approval_workflow_service.dto.BookingDetailsDTO;
 import com.bwc.approval_workflow_service.dto.BookingDocumentDTO;
 import com.bwc.approval_workflow_service.dto.BookingSummaryDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalRequestDTO;
+import com.bwc.approval_workflow_service.dto.BulkApprovalResultDTO;
+import com.bwc.approval_workflow_service.dto.BulkReassignRequestDTO;
+import com.bwc.approval_workflow_service.dto.BulkReassignResultDTO;
 import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.bwc.approval_workflow_service.dto.HotWorkflowDTO;
+import com.bwc.approval_workflow_service.dto.InboxPageDTO;
 import com.bwc.approval_workflow_service.dto.NotificationRequestDTO;
 import com.bwc.approval_workflow_service.dto.TravelBookingDTO;
 import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
 import com.bwc.approval_workflow_service.dto.WorkflowBookingStatsDTO;
 import com.bwc.approval_workflow_service.dto.WorkflowMetricsDTO;
+import com.bwc.approval_workflow_service.dto.WorkflowSearchCriteria;
+import com.bwc.approval_workflow_service.dto.WorkflowSearchPageDTO;
 import com.bwc.approval_workflow_service.entity.ApprovalAction;
 import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
-import com.bwc.approval_workflow_service.entity.WorkflowConfiguration;
+import com.bwc.approval_workflow_service.entity.WorkflowBooking;
 import com.bwc.approval_workflow_service.exception.ResourceNotFoundException;
+import com.bwc.approval_workflow_service.exception.WorkflowConflictException;
 import com.bwc.approval_workflow_service.exception.WorkflowException;
 import com.bwc.approval_workflow_service.mapper.ApprovalWorkflowMapper;
+import com.bwc.approval_workflow_service.mapper.WorkflowBookingMapper;
 import com.bwc.approval_workflow_service.repository.ApprovalActionRepository;
 import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
-import com.bwc.approval_workflow_service.repository.WorkflowConfigurationRepository;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowSpecifications;
+import com.bwc.approval_workflow_service.repository.WorkflowBookingRepository;
 import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.bwc.approval_workflow_service.service.ApproverStatsService;
+import com.bwc.approval_workflow_service.service.NotificationOutboxService;
+import com.bwc.approval_workflow_service.service.RemoteLookupService;
+import com.bwc.approval_workflow_service.service.TravelRequestStatusPropagationService;
+import com.bwc.approval_workflow_service.service.WorkflowMetricsService;
+import com.bwc.approval_workflow_service.workflow.ActionArchiveReader;
+import com.bwc.approval_workflow_service.workflow.ApproverLoadBalancer;
+import com.bwc.approval_workflow_service.workflow.InboxCursor;
+import com.bwc.approval_workflow_service.workflow.InitiationGuard;
+import com.bwc.approval_workflow_service.workflow.LookupFanOut;
+import com.bwc.approval_workflow_service.workflow.OptimisticRetrier;
+import com.bwc.approval_workflow_service.workflow.SearchCursor;
+import com.bwc.approval_workflow_service.workflow.SlaOutcome;
+import com.bwc.approval_workflow_service.workflow.WorkflowStep;
+import com.bwc.approval_workflow_service.workflow.WorkflowStepGraph;
+import com.bwc.approval_workflow_service.workflow.WorkflowArchiver;
+import com.bwc.approval_workflow_service.workflow.WorkflowStepGraphRegistry;
+import com.bwc.approval_workflow_service.workflow.WorkflowTransitionEvent;
 
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
@@ -53,89 +94,312 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
 
     private final ApprovalWorkflowRepository workflowRepository;
     private final ApprovalActionRepository actionRepository;
-    private final WorkflowConfigurationRepository configRepository;
+    private final WorkflowStepGraphRegistry stepGraphRegistry;
     private final TravelRequestServiceClient travelRequestClient;
     private final PolicyServiceClient policyClient;
-    private final EmployeeServiceClient employeeClient;
-    private final NotificationServiceClient notificationClient;
+    private final RemoteLookupService remoteLookup;
+    private final NotificationOutboxService notificationOutbox;
+    private final TravelRequestStatusPropagationService statusPropagation;
+    private final WorkflowMetricsService workflowMetrics;
+    private final ApproverStatsService approverStats;
+    private final WorkflowProperties workflowProperties;
     private final ApprovalWorkflowMapper mapper;
-    private final ObjectMapper objectMapper;
+    private final WorkflowBookingRepository bookingRepository;
+    private final WorkflowBookingMapper bookingMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final LookupFanOut lookupFanOut;
+    private final OptimisticRetrier optimisticRetrier;
+    private final ApproverLoadBalancer approverLoadBalancer;
+    private final ActionArchiveReader actionArchiveReader;
+    private final WorkflowArchiver workflowArchiver;
+    private final ApplicationEventPublisher eventPublisher;
+    private final InitiationGuard initiationGuard;
+
+    private static final int DEFAULT_INBOX_PAGE_SIZE = 25;
+    private static final int MAX_INBOX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SEARCH_PAGE_SIZE = 50;
+    private static final int MAX_SEARCH_PAGE_SIZE = 200;
+    private static final Sort SEARCH_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("workflowId"));
+    private static final Set<String> SUPPORTED_ACTIONS = Set.of("APPROVE", "REJECT", "RETURN", "ESCALATE");
 
     @Override
-    @Transactional
-    public ApprovalWorkflowDTO initiateWorkflow(UUID travelRequestId, String workflowType, Double estimatedCost) {
-        TravelRequestProxyDTO travelRequest = fetchTravelRequestSafe(travelRequestId);
-        return initiateWorkflow(travelRequest, workflowType, estimatedCost);
+    public ApprovalWorkflowDTO initiateWorkflow(UUID travelRequestId, String workflowType, Double estimatedCost, String idempotencyKey) {
+        // Checked before the remote fetch so retries stay cheap
+        Optional<ApprovalWorkflowDTO> existing = findInitiatedWorkflow(travelRequestId, workflowType, idempotencyKey);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        long deadline = lookupFanOut.deadlineAfter(workflowProperties.getInitiation().getLookupTimeoutMs());
+        CompletableFuture<TravelRequestProxyDTO> travelRequestLookup = lookupFanOut.submit("travel-request", deadline,
+                () -> fetchTravelRequestSafe(travelRequestId));
+        return initiate(travelRequestId, travelRequestLookup, workflowType, estimatedCost, idempotencyKey, deadline);
     }
 
     @Override
-    @Transactional
-    public ApprovalWorkflowDTO initiateWorkflow(TravelRequestProxyDTO travelRequest, String workflowType, Double estimatedCost) {
+    public ApprovalWorkflowDTO initiateWorkflow(TravelRequestProxyDTO travelRequest, String workflowType, Double estimatedCost, String idempotencyKey) {
         UUID travelRequestId = travelRequest.travelRequestId();
-        
-        if (workflowRepository.findByTravelRequestIdAndWorkflowType(travelRequestId, workflowType).isPresent()) {
-            throw new WorkflowException("Workflow already exists for travel request " + travelRequestId + " and type " + workflowType);
+        Optional<ApprovalWorkflowDTO> existing = findInitiatedWorkflow(travelRequestId, workflowType, idempotencyKey);
+        if (existing.isPresent()) {
+            return existing.get();
         }
+        long deadline = lookupFanOut.deadlineAfter(workflowProperties.getInitiation().getLookupTimeoutMs());
+        return initiate(travelRequestId, CompletableFuture.completedFuture(travelRequest),
+                workflowType, estimatedCost, idempotencyKey, deadline);
+    }
 
-        EmployeeProxyDTO employee = fetchEmployeeSafe(travelRequest.employeeId());
-
-        List<WorkflowConfiguration> configs = configRepository
-                .findByWorkflowTypeAndIsActiveTrueOrderBySequenceOrder(workflowType);
+    private ApprovalWorkflowDTO initiate(UUID travelRequestId, CompletableFuture<TravelRequestProxyDTO> travelRequestLookup,
+                                         String workflowType, Double estimatedCost, String idempotencyKey, long deadline) {
+        // Remote lookups run on the fan-out pool (employee needs the request's employeeId, so it follows the
+        // travel-request fetch); the step graph is a local cache read done meanwhile on this thread.
+        // Only the inserts below hold a transaction.
+        CompletableFuture<EmployeeProxyDTO> employeeLookup = travelRequestLookup.thenCompose(request ->
+                lookupFanOut.submit("employee", deadline, () -> fetchEmployeeSafe(request.employeeId())));
+        WorkflowStep firstStep = stepGraphRegistry.getGraph(workflowType).firstStep();
 
-        if (configs.isEmpty()) {
-            throw new WorkflowException("No workflow configuration found for type: " + workflowType);
-        }
+        TravelRequestProxyDTO travelRequest = lookupFanOut.await("travel-request", travelRequestLookup, deadline);
+        EmployeeProxyDTO employee = lookupFanOut.awaitOrElse("employee", employeeLookup, deadline,
+                () -> EmployeeProxyDTO.builder().employeeId(travelRequest.employeeId()).build());
 
-        WorkflowConfiguration firstStep = configs.get(0);
-        UUID approverId = determineApproverId(firstStep, travelRequest);
+        UUID approverId = determineApproverId(firstStep, travelRequest, employee);
 
         ApprovalWorkflow workflow = ApprovalWorkflow.builder()
                 .travelRequestId(travelRequestId)
                 .workflowType(workflowType)
-                .currentStep(firstStep.getStepName())
-                .currentApproverRole(firstStep.getApproverRole())
+                .currentStep(firstStep.stepName())
+                .currentApproverRole(firstStep.approverRole())
                 .currentApproverId(approverId)
                 .status("PENDING")
-                .nextStep(getNextStep(configs, 0))
+                .nextStep(firstStep.nextStepName())
                 .priority(calculatePriority(travelRequest, estimatedCost))
                 .estimatedCost(estimatedCost)
                 .dueDate(calculateDueDate(firstStep))
+                .travelRequestSnapshot(mapper.toSnapshot(travelRequest))
                 .build();
 
-        ApprovalWorkflow savedWorkflow = workflowRepository.save(workflow);
-
-        actionRepository.save(ApprovalAction.builder()
-                .workflowId(savedWorkflow.getWorkflowId())
-                .travelRequestId(travelRequestId)
-                .approverRole("SYSTEM")
-                .approverId(travelRequest.employeeId())
-                .action("SUBMIT")
-                .step("SUBMIT")
-                .comments(workflowType + " workflow initiated")
-                .actionTakenAt(LocalDateTime.now())
-                .build());
+        // Own transaction even when called from another transaction's after-commit callback
+        TransactionTemplate initiation = new TransactionTemplate(transactionManager);
+        initiation.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        ApprovalWorkflow savedWorkflow;
+        try {
+            savedWorkflow = initiation.execute(status -> {
+                // Blocks while a concurrent initiation of the same request is in flight
+                if (!initiationGuard.claim(travelRequestId, workflowType)) {
+                    return null;
+                }
+                ApprovalWorkflow saved = workflowRepository.save(workflow);
+
+                actionRepository.save(ApprovalAction.builder()
+                        .workflowId(saved.getWorkflowId())
+                        .travelRequestId(travelRequestId)
+                        .approverRole("SYSTEM")
+                        .approverId(travelRequest.employeeId())
+                        .action("SUBMIT")
+                        .step("SUBMIT")
+                        .comments(workflowType + " workflow initiated")
+                        .actionTakenAt(LocalDateTime.now())
+                        .build());
+
+                updateTravelRequestStatus(travelRequestId, "UNDER_REVIEW");
+                sendNewApprovalNotification(saved, travelRequest, employee);
+                initiationGuard.bind(saved.getWorkflowId(), travelRequestId, workflowType, idempotencyKey);
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // uk_workflow_request_type caught a duplicate whose guard key had already been purged
+            savedWorkflow = null;
+        }
 
-        updateTravelRequestStatus(travelRequestId, "UNDER_REVIEW");
-        sendNewApprovalNotification(savedWorkflow, travelRequest, employee);
+        if (savedWorkflow == null) {
+            ApprovalWorkflowDTO winner = findInitiatedWorkflow(travelRequestId, workflowType, null)
+                    .orElseThrow(() -> new WorkflowConflictException("Initiation of " + workflowType
+                            + " workflow for request " + travelRequestId + " is in progress, retry shortly"));
+            initiationGuard.remember(winner.getWorkflowId(), idempotencyKey);
+            log.info("↩️ Concurrent initiation for request {} resolved to existing workflow {}", travelRequestId, winner.getWorkflowId());
+            return winner;
+        }
 
         log.info("✅ {} workflow initiated successfully for request {}", workflowType, travelRequestId);
         return mapper.toDto(savedWorkflow);
     }
 
+    private Optional<ApprovalWorkflowDTO> findInitiatedWorkflow(UUID travelRequestId, String workflowType, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Optional<UUID> known = initiationGuard.resolve(idempotencyKey);
+            if (known.isPresent()) {
+                ApprovalWorkflowDTO workflow = getWorkflow(known.get());
+                if (!travelRequestId.equals(workflow.getTravelRequestId()) || !workflowType.equals(workflow.getWorkflowType())) {
+                    throw new WorkflowConflictException("Idempotency-Key " + idempotencyKey + " was already used for another workflow");
+                }
+                return Optional.of(workflow);
+            }
+        }
+        return workflowRepository.findByTravelRequestIdAndWorkflowType(travelRequestId, workflowType)
+                .map(mapper::toDto)
+                .or(() -> workflowArchiver.findByTravelRequestIdAndWorkflowType(travelRequestId, workflowType));
+    }
+
     @Override
-    @Transactional
     public ApprovalWorkflowDTO processApproval(ApprovalRequestDTO approvalRequest) {
-        ApprovalWorkflow workflow = workflowRepository.findById(approvalRequest.getWorkflowId())
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+        AtomicReference<String> observedState = new AtomicReference<>();
+        return optimisticRetrier.execute("approval", approvalRequest.getWorkflowId(), () -> {
+            ApprovalWorkflow workflow = workflowRepository.findById(approvalRequest.getWorkflowId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+
+            requireUnchangedOnRetry(observedState, workflow);
+            validateApproval(workflow, approvalRequest);
+            actionRepository.save(buildApprovalAction(workflow, approvalRequest));
+            applyTransition(workflow, approvalRequest);
+
+            ApprovalWorkflow updatedWorkflow = workflowRepository.save(workflow);
+            return mapper.toDto(updatedWorkflow);
+        });
+    }
+
+    /**
+     * A replayed transition must see the status and step the first attempt saw;
+     * otherwise another writer already moved the workflow on and the request is stale.
+     */
+    private void requireUnchangedOnRetry(AtomicReference<String> observedState, ApprovalWorkflow workflow) {
+        String state = workflow.getStatus() + "@" + workflow.getCurrentStep();
+        if (!observedState.compareAndSet(null, state) && !observedState.get().equals(state)) {
+            throw new WorkflowConflictException("Workflow " + workflow.getWorkflowId() + " moved from "
+                    + observedState.get() + " to " + state + " while this request was being applied");
+        }
+    }
+
+    @Override
+    public BulkApprovalResultDTO processBulkApproval(BulkApprovalRequestDTO bulkRequest, String approverRole, UUID approverId) {
+        String action = bulkRequest.getAction().toUpperCase();
+        if (!SUPPORTED_ACTIONS.contains(action)) {
+            throw new WorkflowException("Unknown action: " + action);
+        }
+        List<UUID> workflowIds = bulkRequest.getWorkflowIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<UUID, BulkApprovalResultDTO.ItemResult> results = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    applyBulkApproval(workflowIds, bulkRequest, approverRole, approverId, results));
+        } catch (Exception e) {
+            // One bad item poisoned the batch; redo the valid ones in their own transactions
+            log.warn("⚠️ Bulk {} of {} workflow(s) failed as a batch, retrying individually: {}",
+                    action, workflowIds.size(), e.getMessage());
+            // The batch rolled back, so items it reported as applied were not; only validation failures stand
+            results.values().removeIf(BulkApprovalResultDTO.ItemResult::isSuccess);
+            for (UUID workflowId : workflowIds) {
+                if (results.containsKey(workflowId)) {
+                    continue;
+                }
+                ApprovalRequestDTO approvalRequest = toApprovalRequest(workflowId, bulkRequest, approverRole, approverId);
+                try {
+                    // processApproval owns its transaction so the optimistic retry still applies
+                    ApprovalWorkflowDTO updated = processApproval(approvalRequest);
+                    results.put(workflowId, BulkApprovalResultDTO.ItemResult.builder()
+                            .workflowId(workflowId)
+                            .success(true)
+                            .status(updated.getStatus())
+                            .currentStep(updated.getCurrentStep())
+                            .build());
+                } catch (Exception itemError) {
+                    results.put(workflowId, bulkFailure(workflowId, itemError.getMessage()));
+                }
+            }
+        }
+
+        List<BulkApprovalResultDTO.ItemResult> ordered = workflowIds.stream().map(results::get).toList();
+        int succeeded = (int) ordered.stream().filter(BulkApprovalResultDTO.ItemResult::isSuccess).count();
+        log.info("✅ Bulk {} by {} {}: {} succeeded, {} failed",
+                action, approverRole, approverId, succeeded, ordered.size() - succeeded);
+        return BulkApprovalResultDTO.builder()
+                .requested(ordered.size())
+                .succeeded(succeeded)
+                .failed(ordered.size() - succeeded)
+                .results(ordered)
+                .build();
+    }
+
+    /**
+     * Validates every workflow from one query and writes all actions and transitions in a
+     * single flush, so inserts and versioned updates go out as JDBC batches. Only validation
+     * failures are recorded here; anything thrown rolls back the whole batch.
+     */
+    private void applyBulkApproval(List<UUID> workflowIds, BulkApprovalRequestDTO bulkRequest, String approverRole,
+                                   UUID approverId, Map<UUID, BulkApprovalResultDTO.ItemResult> results) {
+        Map<UUID, ApprovalWorkflow> workflowsById = workflowRepository.findAllById(workflowIds).stream()
+                .collect(Collectors.toMap(ApprovalWorkflow::getWorkflowId, w -> w));
+
+        List<ApprovalAction> actions = new ArrayList<>();
+        List<ApprovalWorkflow> transitioned = new ArrayList<>();
+        for (UUID workflowId : workflowIds) {
+            ApprovalWorkflow workflow = workflowsById.get(workflowId);
+            if (workflow == null) {
+                results.put(workflowId, bulkFailure(workflowId, "Workflow not found"));
+                continue;
+            }
+            ApprovalRequestDTO approvalRequest = toApprovalRequest(workflowId, bulkRequest, approverRole, approverId);
+            try {
+                validateApproval(workflow, approvalRequest);
+            } catch (WorkflowException e) {
+                results.put(workflowId, bulkFailure(workflowId, e.getMessage()));
+                continue;
+            }
+            actions.add(buildApprovalAction(workflow, approvalRequest));
+            applyTransition(workflow, approvalRequest);
+            transitioned.add(workflow);
+        }
+
+        actionRepository.saveAll(actions);
+        workflowRepository.saveAll(transitioned);
+        workflowRepository.flush();
+
+        for (ApprovalWorkflow workflow : transitioned) {
+            results.put(workflow.getWorkflowId(), BulkApprovalResultDTO.ItemResult.builder()
+                    .workflowId(workflow.getWorkflowId())
+                    .success(true)
+                    .status(workflow.getStatus())
+                    .currentStep(workflow.getCurrentStep())
+                    .build());
+        }
+    }
 
+    private ApprovalRequestDTO toApprovalRequest(UUID workflowId, BulkApprovalRequestDTO bulkRequest,
+                                                 String approverRole, UUID approverId) {
+        return ApprovalRequestDTO.builder()
+                .workflowId(workflowId)
+                .action(bulkRequest.getAction())
+                .approverRole(approverRole)
+                .approverId(approverId)
+                .approverName(bulkRequest.getApproverName())
+                .comments(bulkRequest.getComments())
+                .escalationReason(bulkRequest.getEscalationReason())
+                .build();
+    }
+
+    private BulkApprovalResultDTO.ItemResult bulkFailure(UUID workflowId, String error) {
+        return BulkApprovalResultDTO.ItemResult.builder()
+                .workflowId(workflowId)
+                .success(false)
+                .error(error)
+                .build();
+    }
+
+    private void validateApproval(ApprovalWorkflow workflow, ApprovalRequestDTO approvalRequest) {
         if (!"PENDING".equalsIgnoreCase(workflow.getStatus())) {
             throw new WorkflowException("Workflow is not in pending state");
         }
+        if (workflow.isClaimedByOther(approvalRequest.getApproverId(), LocalDateTime.now())) {
+            throw new WorkflowConflictException("Workflow is claimed by another approver until " + workflow.getClaimExpiresAt());
+        }
 
         validateApproverAuthorization(workflow, approvalRequest);
         validateManagerAuthorization(workflow, approvalRequest);
+    }
 
-        actionRepository.save(ApprovalAction.builder()
+    private ApprovalAction buildApprovalAction(ApprovalWorkflow workflow, ApprovalRequestDTO approvalRequest) {
+        return ApprovalAction.builder()
                 .workflowId(workflow.getWorkflowId())
                 .travelRequestId(workflow.getTravelRequestId())
                 .approverRole(approvalRequest.getApproverRole())
@@ -148,23 +412,26 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .isEscalated(approvalRequest.getEscalationReason() != null)
                 .amountApproved(approvalRequest.getAmountApproved())
                 .reimbursementAmount(approvalRequest.getReimbursementAmount())
+                .processingTimeSeconds(secondsInCurrentStep(workflow))
                 .actionTakenAt(LocalDateTime.now())
-                .build());
+                .build();
+    }
 
-        List<WorkflowConfiguration> configs = configRepository
-                .findByWorkflowTypeAndIsActiveTrueOrderBySequenceOrder(workflow.getWorkflowType());
+    private Long secondsInCurrentStep(ApprovalWorkflow workflow) {
+        LocalDateTime started = workflow.getStepStartedAt() != null ? workflow.getStepStartedAt() : workflow.getCreatedAt();
+        return started != null ? java.time.Duration.between(started, LocalDateTime.now()).getSeconds() : null;
+    }
 
+    private void applyTransition(ApprovalWorkflow workflow, ApprovalRequestDTO approvalRequest) {
         String action = approvalRequest.getAction().toUpperCase();
         switch (action) {
-            case "APPROVE" -> handleApprove(workflow, configs, approvalRequest);
+            case "APPROVE" -> handleApprove(workflow, stepGraphRegistry.getGraph(workflow.getWorkflowType()), approvalRequest);
             case "REJECT" -> handleReject(workflow, approvalRequest.getComments());
             case "RETURN" -> handleReturn(workflow, approvalRequest.getComments());
             case "ESCALATE" -> handleEscalate(workflow, approvalRequest.getEscalationReason());
             default -> throw new WorkflowException("Unknown action: " + action);
         }
-
-        ApprovalWorkflow updatedWorkflow = workflowRepository.save(workflow);
-        return mapper.toDto(updatedWorkflow);
+        workflow.releaseClaim();
     }
 
     private void validateApproverAuthorization(ApprovalWorkflow workflow, ApprovalRequestDTO approvalRequest) {
@@ -177,6 +444,15 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                              approverRole, currentStepRole)
             );
         }
+
+        // Manager steps are checked below; other assigned steps belong to their approver alone
+        if (!"MANAGER".equals(currentStepRole) && workflow.getCurrentApproverId() != null
+                && !workflow.getCurrentApproverId().equals(approvalRequest.getApproverId())) {
+            throw new WorkflowException(
+                String.format("Approver %s cannot act on %s step assigned to %s",
+                             approvalRequest.getApproverId(), currentStepRole, workflow.getCurrentApproverId())
+            );
+        }
         
         log.info("✅ Authorization validated: {} can approve {} step", 
                  approverRole, workflow.getCurrentStep());
@@ -197,9 +473,9 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         }
     }
 
-    private void handleApprove(ApprovalWorkflow workflow, List<WorkflowConfiguration> configs, 
+    private void handleApprove(ApprovalWorkflow workflow, WorkflowStepGraph graph,
                              ApprovalRequestDTO approvalRequest) {
-        int currentIndex = findCurrentStepIndex(configs, workflow.getCurrentStep());
+        WorkflowStep currentStep = graph.requireStep(workflow.getCurrentStep());
         
         if ("TRAVEL_DESK_CHECK".equals(workflow.getCurrentStep()) && 
             Boolean.TRUE.equals(approvalRequest.getMarkOverpriced())) {
@@ -212,20 +488,15 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
             workflow.setEstimatedCost(approvalRequest.getAmountApproved());
         }
 
-        if (currentIndex >= configs.size() - 1) {
+        WorkflowStep nextStep = graph
+                .nextOnApprove(currentStep, Boolean.TRUE.equals(workflow.getIsOverpriced()))
+                .orElse(null);
+        if (nextStep == null) {
             completeWorkflow(workflow, "APPROVED");
             return;
         }
 
-        WorkflowConfiguration nextStep = determineNextStep(workflow, configs, currentIndex);
-        
-        workflow.setPreviousStep(workflow.getCurrentStep());
-        workflow.setCurrentStep(nextStep.getStepName());
-        workflow.setCurrentApproverRole(nextStep.getApproverRole());
-        workflow.setCurrentApproverId(determineApproverId(nextStep, 
-                fetchTravelRequestSafe(workflow.getTravelRequestId())));
-        workflow.setNextStep(getNextStep(configs, configs.indexOf(nextStep)));
-        workflow.setDueDate(calculateDueDate(nextStep));
+        moveToStep(workflow, nextStep);
         workflow.setStatus("PENDING");
         
         if ("SYSTEM".equalsIgnoreCase(workflow.getCurrentApproverRole()) &&
@@ -239,72 +510,6 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         sendNextApprovalNotification(workflow);
     }
 
-    private WorkflowConfiguration determineNextStep(ApprovalWorkflow workflow, 
-                                                   List<WorkflowConfiguration> configs, 
-                                                   int currentIndex) {
-        String currentStep = workflow.getCurrentStep();
-        
-        if ("PRE_TRAVEL".equals(workflow.getWorkflowType())) {
-            switch (currentStep) {
-                case "MANAGER_APPROVAL":
-                    return configs.stream()
-                            .filter(c -> "TRAVEL_DESK_CHECK".equals(c.getStepName()))
-                            .findFirst()
-                            .orElse(configs.get(currentIndex + 1));
-                
-                case "TRAVEL_DESK_CHECK":
-                    if (Boolean.TRUE.equals(workflow.getIsOverpriced())) {
-                        return configs.stream()
-                                .filter(c -> "FINANCE_APPROVAL".equals(c.getStepName()))
-                                .findFirst()
-                                .orElse(configs.get(currentIndex + 1));
-                    } else {
-                        return configs.stream()
-                                .filter(c -> "HR_APPROVAL".equals(c.getStepName()))
-                                .findFirst()
-                                .orElse(configs.get(currentIndex + 1));
-                    }
-                
-                case "FINANCE_APPROVAL":
-                    return configs.stream()
-                            .filter(c -> "TRAVEL_DESK_BOOKING".equals(c.getStepName()))
-                            .findFirst()
-                            .orElse(configs.get(currentIndex + 1));
-                
-                case "TRAVEL_DESK_BOOKING":
-                    return configs.stream()
-                            .filter(c -> "HR_COMPLIANCE".equals(c.getStepName()))
-                            .findFirst()
-                            .orElse(configs.get(currentIndex + 1));
-                
-                case "HR_COMPLIANCE":
-                    return configs.stream()
-                            .filter(c -> "FINANCE_FINAL".equals(c.getStepName()))
-                            .findFirst()
-                            .orElse(configs.get(currentIndex + 1));
-            }
-        }
-        
-        if ("POST_TRAVEL".equals(workflow.getWorkflowType())) {
-            switch (currentStep) {
-                case "TRAVEL_DESK_BILL_REVIEW":
-                    if (Boolean.TRUE.equals(workflow.getIsOverpriced())) {
-                        return configs.stream()
-                                .filter(c -> "FINANCE_REIMBURSEMENT".equals(c.getStepName()))
-                                .findFirst()
-                                .orElse(configs.get(currentIndex + 1));
-                    } else {
-                        return configs.stream()
-                                .filter(c -> "FINANCE_REIMBURSEMENT".equals(c.getStepName()))
-                                .findFirst()
-                                .orElse(configs.get(currentIndex + 1));
-                    }
-            }
-        }
-        
-        return configs.get(currentIndex + 1);
-    }
-
     private void handleReject(ApprovalWorkflow workflow, String comments) {
         workflow.setStatus("REJECTED");
         workflow.setCompletedAt(LocalDateTime.now());
@@ -366,21 +571,11 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .actionTakenAt(LocalDateTime.now())
                 .build());
 
-        List<WorkflowConfiguration> configs = configRepository
-                .findByWorkflowTypeAndIsActiveTrueOrderBySequenceOrder(workflow.getWorkflowType());
-        
-        WorkflowConfiguration nextStep = configs.stream()
-                .filter(c -> "HR_COMPLIANCE".equals(c.getStepName()))
-                .findFirst()
+        WorkflowStep nextStep = stepGraphRegistry.getGraph(workflow.getWorkflowType())
+                .findStep("HR_COMPLIANCE")
                 .orElseThrow(() -> new WorkflowException("HR compliance step not found"));
 
-        workflow.setPreviousStep(workflow.getCurrentStep());
-        workflow.setCurrentStep(nextStep.getStepName());
-        workflow.setCurrentApproverRole(nextStep.getApproverRole());
-        workflow.setCurrentApproverId(determineApproverId(nextStep, 
-                fetchTravelRequestSafe(workflow.getTravelRequestId())));
-        workflow.setNextStep(getNextStep(configs, configs.indexOf(nextStep)));
-        workflow.setDueDate(calculateDueDate(nextStep));
+        moveToStep(workflow, nextStep);
 
         sendNextApprovalNotification(workflow);
 
@@ -410,21 +605,11 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .actionTakenAt(LocalDateTime.now())
                 .build());
 
-        List<WorkflowConfiguration> configs = configRepository
-                .findByWorkflowTypeAndIsActiveTrueOrderBySequenceOrder(workflow.getWorkflowType());
-        
-        WorkflowConfiguration nextStep = configs.stream()
-                .filter(c -> "TRAVEL_DESK_BILL_REVIEW".equals(c.getStepName()))
-                .findFirst()
+        WorkflowStep nextStep = stepGraphRegistry.getGraph(workflow.getWorkflowType())
+                .findStep("TRAVEL_DESK_BILL_REVIEW")
                 .orElseThrow(() -> new WorkflowException("Travel Desk bill review step not found"));
 
-        workflow.setPreviousStep(workflow.getCurrentStep());
-        workflow.setCurrentStep(nextStep.getStepName());
-        workflow.setCurrentApproverRole(nextStep.getApproverRole());
-        workflow.setCurrentApproverId(determineApproverId(nextStep, 
-                fetchTravelRequestSafe(workflow.getTravelRequestId())));
-        workflow.setNextStep(getNextStep(configs, configs.indexOf(nextStep)));
-        workflow.setDueDate(calculateDueDate(nextStep));
+        moveToStep(workflow, nextStep);
         workflow.setStatus("PENDING");
 
         try {
@@ -447,30 +632,68 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         updateTravelRequestStatus(workflow.getTravelRequestId(), travelRequestStatus);
 
         if ("PRE_TRAVEL".equals(workflow.getWorkflowType()) && "APPROVED".equals(status)) {
+            initiatePostTravelAfterCommit(travelRequestFor(workflow), workflow.getEstimatedCost());
+        }
+
+        sendCompletionNotification(workflow);
+    }
+
+    /**
+     * POST_TRAVEL initiation does remote lookups and its own inserts, so it waits until the approval
+     * has committed: its failure cannot roll the approval back, and no row lock is held meanwhile.
+     */
+    private void initiatePostTravelAfterCommit(TravelRequestProxyDTO travelRequest, Double estimatedCost) {
+        Runnable initiate = () -> {
             try {
-                boolean postTravelExists = workflowRepository
-                        .findByTravelRequestIdAndWorkflowType(workflow.getTravelRequestId(), "POST_TRAVEL")
-                        .isPresent();
-
-                if (!postTravelExists) {
-                    TravelRequestProxyDTO travelRequest = fetchTravelRequestSafe(workflow.getTravelRequestId());
-                    initiateWorkflow(travelRequest, "POST_TRAVEL", workflow.getEstimatedCost());
-                    log.info("✅ POST_TRAVEL workflow automatically initiated for request {}", workflow.getTravelRequestId());
-                } else {
-                    log.warn("⚠️ POST_TRAVEL workflow already exists for request {}", workflow.getTravelRequestId());
-                }
+                ApprovalWorkflowDTO postTravel = initiateWorkflow(travelRequest, "POST_TRAVEL", estimatedCost);
+                log.info("✅ POST_TRAVEL workflow {} ready for request {}", postTravel.getWorkflowId(), travelRequest.travelRequestId());
             } catch (Exception e) {
-                log.error("❌ Failed to auto-initiate POST_TRAVEL workflow: {}", e.getMessage());
+                log.error("❌ Failed to auto-initiate POST_TRAVEL workflow for request {}: {}",
+                        travelRequest.travelRequestId(), e.getMessage());
             }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            initiate.run();
+            return;
         }
-
-        sendCompletionNotification(workflow);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                initiate.run();
+            }
+        });
     }
 
     // Helper methods
+    private void moveToStep(ApprovalWorkflow workflow, WorkflowStep nextStep) {
+        workflow.setPreviousStep(workflow.getCurrentStep());
+        workflow.setCurrentStep(nextStep.stepName());
+        workflow.setCurrentApproverRole(nextStep.approverRole());
+        workflow.setCurrentApproverId(determineApproverId(nextStep, travelRequestFor(workflow)));
+        workflow.setNextStep(nextStep.nextStepName());
+        workflow.setDueDate(calculateDueDate(nextStep));
+        workflow.setStepStartedAt(LocalDateTime.now());
+        workflow.setIsOverdue(false);
+        workflow.setOverdueSince(null);
+        workflow.releaseClaim();
+    }
+
+    /**
+     * Travel request facts from the workflow's snapshot. Legacy workflows without one
+     * fetch remotely once and keep the result as their snapshot.
+     */
+    private TravelRequestProxyDTO travelRequestFor(ApprovalWorkflow workflow) {
+        if (workflow.getTravelRequestSnapshot() != null) {
+            return mapper.toTravelRequest(workflow.getTravelRequestId(), workflow.getTravelRequestSnapshot());
+        }
+        TravelRequestProxyDTO travelRequest = fetchTravelRequestSafe(workflow.getTravelRequestId());
+        workflow.setTravelRequestSnapshot(mapper.toSnapshot(travelRequest));
+        return travelRequest;
+    }
+
     private TravelRequestProxyDTO fetchTravelRequestSafe(UUID id) {
         try {
-            return travelRequestClient.getTravelRequest(id);
+            return remoteLookup.getTravelRequest(id);
         } catch (FeignException e) {
             log.error("Failed to fetch travel request {}: {}", id, e.getMessage());
             throw new WorkflowException("Failed to retrieve travel request");
@@ -479,23 +702,30 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
 
     private EmployeeProxyDTO fetchEmployeeSafe(UUID employeeId) {
         try {
-            return employeeClient.getEmployee(employeeId);
+            return remoteLookup.getEmployee(employeeId);
         } catch (FeignException e) {
             log.warn("Failed to fetch employee {}: {}", employeeId, e.getMessage());
             return EmployeeProxyDTO.builder().employeeId(employeeId).build();
         }
     }
 
-    private UUID determineApproverId(WorkflowConfiguration step, TravelRequestProxyDTO travelRequest) {
+    private UUID determineApproverId(WorkflowStep step, TravelRequestProxyDTO travelRequest) {
+        return determineApproverId(step, travelRequest, null);
+    }
+
+    /**
+     * @param knownEmployee employee already fetched by the caller, or {@code null} to look it up
+     */
+    private UUID determineApproverId(WorkflowStep step, TravelRequestProxyDTO travelRequest, EmployeeProxyDTO knownEmployee) {
         UUID employeeId = travelRequest.employeeId();
 
-        if ("MANAGER".equalsIgnoreCase(step.getApproverRole())) {
+        if ("MANAGER".equalsIgnoreCase(step.approverRole())) {
             try {
-                EmployeeProxyDTO employee = employeeClient.getEmployee(employeeId);
+                EmployeeProxyDTO employee = knownEmployee != null ? knownEmployee : remoteLookup.getEmployee(employeeId);
 
                 if (employee.getManagerId() != null) {
                     logApproverAssignment(
-                            step.getStepName(),
+                            step.stepName(),
                             "MANAGER",
                             employee.getManagerId(),
                             employee.getEmployeeId(),
@@ -503,9 +733,9 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                     );
                     return employee.getManagerId();
                 } else {
-                    UUID fallbackId = getSystemAdminIdFallback();
+                    UUID fallbackId = getSystemAdminIdFallback(employeeId);
                     logApproverAssignment(
-                            step.getStepName(),
+                            step.stepName(),
                             "MANAGER",
                             fallbackId,
                             employee.getEmployeeId(),
@@ -516,28 +746,28 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
 
             } catch (Exception e) {
                 log.error("❌ [{}] Failed to fetch manager for employee {}: {}",
-                        step.getStepName(), employeeId, e.getMessage());
-                UUID fallbackId = getSystemAdminIdFallback();
-                logApproverAssignment(step.getStepName(), "MANAGER", fallbackId, employeeId, "Exception fallback");
+                        step.stepName(), employeeId, e.getMessage());
+                UUID fallbackId = getSystemAdminIdFallback(employeeId);
+                logApproverAssignment(step.stepName(), "MANAGER", fallbackId, employeeId, "Exception fallback");
                 return fallbackId;
             }
         }
 
-        logApproverAssignment(step.getStepName(), step.getApproverRole(), null, employeeId, "Non-manager step");
-        return null;
-    }
-
-    private UUID getSystemAdminIdFallback() {
-        return UUID.fromString("ff78684e-ed8d-4696-bccf-582ecf1ab900");
+        UUID assigned = approverLoadBalancer.assign(step.approverRole(), employeeId);
+        logApproverAssignment(step.stepName(), step.approverRole(), assigned, employeeId,
+                assigned != null ? "Least-loaded" : "Role pool");
+        return assigned;
     }
 
-    private String getNextStep(List<WorkflowConfiguration> configs, int currentIndex) {
-        return currentIndex < configs.size() - 1 ? configs.get(currentIndex + 1).getStepName() : "COMPLETED";
+    // Spread manager fallbacks across admins; the fixed admin is the last resort
+    private UUID getSystemAdminIdFallback(UUID employeeId) {
+        UUID admin = approverLoadBalancer.assign("ADMIN", employeeId);
+        return admin != null ? admin : UUID.fromString("ff78684e-ed8d-4696-bccf-582ecf1ab900");
     }
 
-    private LocalDateTime calculateDueDate(WorkflowConfiguration step) {
-        return step.getTimeLimitHours() != null ? 
-                LocalDateTime.now().plusHours(step.getTimeLimitHours()) : 
+    private LocalDateTime calculateDueDate(WorkflowStep step) {
+        return step.timeLimitHours() != null ? 
+                LocalDateTime.now().plusHours(step.timeLimitHours()) : 
                 LocalDateTime.now().plusDays(3);
     }
 
@@ -549,32 +779,14 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         return "NORMAL";
     }
 
-    private int findCurrentStepIndex(List<WorkflowConfiguration> configs, String currentStep) {
-        for (int i = 0; i < configs.size(); i++) {
-            if (configs.get(i).getStepName().equals(currentStep)) {
-                return i;
-            }
-        }
-        throw new WorkflowException("Current step not found in configuration: " + currentStep);
-    }
-
     private void updateTravelRequestStatus(UUID travelRequestId, String status) {
-        try {
-            travelRequestClient.updateRequestStatus(travelRequestId, status);
-        } catch (Exception e) {
-            log.warn("Failed to update travel request status: {}", e.getMessage());
-        }
+        statusPropagation.enqueue(travelRequestId, status);
     }
 
     @Transactional
     public void updateTravelRequestBookingStatus(UUID travelRequestId, String status) {
-        try {
-            travelRequestClient.updateRequestStatus(travelRequestId, status);
-            log.info("✅ Travel request {} status updated to: {}", travelRequestId, status);
-        } catch (Exception e) {
-            log.error("❌ Failed to update travel request status: {}", e.getMessage());
-            throw new WorkflowException("Failed to update travel request status: " + e.getMessage());
-        }
+        statusPropagation.enqueue(travelRequestId, status);
+        log.info("✅ Travel request {} status {} queued for propagation", travelRequestId, status);
     }
 
     @Override
@@ -622,21 +834,11 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         updateTravelRequestBookingStatus(workflow.getTravelRequestId(), "BOOKED");
 
         // Move workflow to next step (HR_COMPLIANCE)
-        List<WorkflowConfiguration> configs = configRepository
-                .findByWorkflowTypeAndIsActiveTrueOrderBySequenceOrder(workflow.getWorkflowType());
-        
-        WorkflowConfiguration nextStep = configs.stream()
-                .filter(c -> "HR_COMPLIANCE".equals(c.getStepName()))
-                .findFirst()
+        WorkflowStep nextStep = stepGraphRegistry.getGraph(workflow.getWorkflowType())
+                .findStep("HR_COMPLIANCE")
                 .orElseThrow(() -> new WorkflowException("HR compliance step not found"));
 
-        workflow.setPreviousStep(workflow.getCurrentStep());
-        workflow.setCurrentStep(nextStep.getStepName());
-        workflow.setCurrentApproverRole(nextStep.getApproverRole());
-        workflow.setCurrentApproverId(determineApproverId(nextStep, 
-                fetchTravelRequestSafe(workflow.getTravelRequestId())));
-        workflow.setNextStep(getNextStep(configs, configs.indexOf(nextStep)));
-        workflow.setDueDate(calculateDueDate(nextStep));
+        moveToStep(workflow, nextStep);
 
         sendNextApprovalNotification(workflow);
 
@@ -649,16 +851,21 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
     @Override
     @Transactional(readOnly = true)
     public BookingSummaryDTO getBookingSummary(UUID workflowId) {
-        ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+        Optional<ApprovalWorkflow> live = workflowRepository.findById(workflowId);
+        if (live.isEmpty()) {
+            return archivedBookingSummary(workflowId);
+        }
+        ApprovalWorkflow workflow = live.get();
 
         List<BookingDocumentDTO> bookingDocuments = fetchBookingDocuments(workflow.getTravelRequestId());
-        BookingDetailsDTO bookingDetails = convertJsonToBookingDetails(workflow.getBookingDetails());
+        BookingDetailsDTO bookingDetails = bookingMapper.toBookingDetails(
+                bookingRepository.findByWorkflowIdOrderByCreatedAtAsc(workflowId),
+                workflow.getTotalBookingAmount(), workflow.getBookingNotes());
 
         return BookingSummaryDTO.builder()
                 .workflowId(workflowId)
                 .travelRequestId(workflow.getTravelRequestId())
-                .totalBookings(calculateTotalBookings(bookingDetails))
+                .totalBookings(workflow.getBookingCount() != null ? workflow.getBookingCount() : 0)
                 .totalDocuments(bookingDocuments.size())
                 .totalBookingAmount(workflow.getTotalBookingAmount())
                 .status(workflow.getStatus())
@@ -667,6 +874,27 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .build();
     }
 
+    private BookingSummaryDTO archivedBookingSummary(UUID workflowId) {
+        WorkflowArchiver.ArchivedBookings archived = archivedBookings(workflowId);
+        List<BookingDocumentDTO> bookingDocuments = fetchBookingDocuments(archived.travelRequestId());
+        return BookingSummaryDTO.builder()
+                .workflowId(workflowId)
+                .travelRequestId(archived.travelRequestId())
+                .totalBookings(archived.bookings().size())
+                .totalDocuments(bookingDocuments.size())
+                .totalBookingAmount(archived.totalBookingAmount())
+                .status(archived.status())
+                .documents(mapToDocumentSummary(bookingDocuments))
+                .bookingDetails(bookingMapper.toBookingDetails(archived.bookings(),
+                        archived.totalBookingAmount(), archived.bookingNotes()))
+                .build();
+    }
+
+    private WorkflowArchiver.ArchivedBookings archivedBookings(UUID workflowId) {
+        return workflowArchiver.findBookings(workflowId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+    }
+
     @Override
     @Transactional
     public ApprovalWorkflowDTO updateBookingDetails(UUID workflowId, UUID updatedBy, BookingDetailsDTO bookingDetails, String comments) {
@@ -677,8 +905,15 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
             throw new WorkflowException("Cannot update booking details. Current step: " + workflow.getCurrentStep());
         }
 
-        workflow.setBookingDetails(convertBookingDetailsToJson(bookingDetails));
-        workflow.setTotalBookingAmount(bookingDetails.getTotalBookingAmount());
+        // The submitted document replaces every booking on the workflow
+        bookingRepository.deleteByWorkflowId(workflowId);
+        workflow.resetBookingCounters();
+        List<WorkflowBooking> bookings = bookingRepository.saveAll(bookingMapper.fromBookingDetails(workflow, bookingDetails));
+        bookings.forEach(b -> workflow.applyBookingDelta(b.getBookingType(), 1, b.getBookingAmount()));
+        if (bookingDetails.getTotalBookingAmount() != null) {
+            workflow.setTotalBookingAmount(bookingDetails.getTotalBookingAmount());
+        }
+        workflow.setBookingNotes(bookingDetails.getBookingNotes());
 
         actionRepository.save(ApprovalAction.builder()
                 .workflowId(workflowId)
@@ -698,27 +933,6 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
     }
 
     // Helper methods for booking management
-    private String convertBookingDetailsToJson(BookingDetailsDTO bookingDetails) {
-        try {
-            return objectMapper.writeValueAsString(bookingDetails);
-        } catch (Exception e) {
-            log.warn("Failed to convert booking details to JSON: {}", e.getMessage());
-            return "{}";
-        }
-    }
-
-    private BookingDetailsDTO convertJsonToBookingDetails(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return BookingDetailsDTO.builder().build();
-        }
-        try {
-            return objectMapper.readValue(json, BookingDetailsDTO.class);
-        } catch (Exception e) {
-            log.warn("Failed to convert JSON to booking details: {}", e.getMessage());
-            return BookingDetailsDTO.builder().build();
-        }
-    }
-
     private List<BookingDocumentDTO> fetchBookingDocuments(UUID travelRequestId) {
         try {
             // This would call the travel-request-service to get booking documents
@@ -730,18 +944,6 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         }
     }
 
-    private Integer calculateTotalBookings(BookingDetailsDTO bookingDetails) {
-        if (bookingDetails == null) return 0;
-        
-        int total = 0;
-        if (bookingDetails.getFlightBookings() != null) total += bookingDetails.getFlightBookings().size();
-        if (bookingDetails.getHotelBookings() != null) total += bookingDetails.getHotelBookings().size();
-        if (bookingDetails.getCarRentals() != null) total += bookingDetails.getCarRentals().size();
-        if (bookingDetails.getOtherBookings() != null) total += bookingDetails.getOtherBookings().size();
-        
-        return total;
-    }
-
     private List<BookingSummaryDTO.BookingDocumentSummary> mapToDocumentSummary(List<BookingDocumentDTO> documents) {
         return documents.stream()
                 .map(doc -> BookingSummaryDTO.BookingDocumentSummary.builder()
@@ -754,39 +956,41 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .collect(Collectors.toList());
     }
 
-    // Notification methods
-    @Async
+    // Notification methods (written to the outbox in the caller's transaction, delivered after commit)
     void sendNewApprovalNotification(ApprovalWorkflow workflow, TravelRequestProxyDTO travelRequest, EmployeeProxyDTO employee) {
-        try {
-            NotificationRequestDTO notification = NotificationRequestDTO.builder()
-                    .userId(workflow.getCurrentApproverId())
-                    .subject("Approval Required: Travel Request")
-                    .message("Travel request from " + employee.getFullName() + " requires your approval")
-                    .notificationType("APPROVAL_REQUEST")
-                    .referenceId(workflow.getTravelRequestId())
-                    .referenceType("TRAVEL_REQUEST")
-                    .build();
-            notificationClient.sendNotification(notification);
-        } catch (Exception e) {
-            log.warn("Failed to send notification: {}", e.getMessage());
-        }
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .userId(workflow.getCurrentApproverId())
+                .subject("Approval Required: Travel Request")
+                .message("Travel request from " + employee.getFullName() + " requires your approval")
+                .notificationType("APPROVAL_REQUEST")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
     }
 
-    @Async
     void sendNextApprovalNotification(ApprovalWorkflow workflow) {
-        try {
-            NotificationRequestDTO notification = NotificationRequestDTO.builder()
-                    .userId(workflow.getCurrentApproverId())
-                    .subject("Action Required: Next Approval Step")
-                    .message("Workflow requires your action at step: " + workflow.getCurrentStep())
-                    .notificationType("APPROVAL_NEXT")
-                    .referenceId(workflow.getTravelRequestId())
-                    .referenceType("TRAVEL_REQUEST")
-                    .build();
-            notificationClient.sendNotification(notification);
-        } catch (Exception e) {
-            log.warn("Failed to send notification: {}", e.getMessage());
-        }
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .userId(workflow.getCurrentApproverId())
+                .subject("Action Required: Next Approval Step")
+                .message("Workflow requires your action at step: " + workflow.getCurrentStep())
+                .notificationType("APPROVAL_NEXT")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
+    }
+
+    void sendReassignmentDigest(UUID approverId, int count) {
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .userId(approverId)
+                .subject("Approvals Reassigned To You")
+                .message(count + " pending travel request approval(s) have been reassigned to you")
+                .notificationType("APPROVAL_REASSIGNED")
+                .referenceId(approverId)
+                .referenceType("APPROVER")
+                .build();
+        notificationOutbox.enqueue(notification);
     }
 
     // Other methods from interface
@@ -795,6 +999,7 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
     public ApprovalWorkflowDTO getWorkflowByRequestId(UUID travelRequestId) {
         return workflowRepository.findByTravelRequestId(travelRequestId)
                 .map(mapper::toDto)
+                .or(() -> workflowArchiver.findByTravelRequestId(travelRequestId))
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
     }
 
@@ -803,9 +1008,48 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
     public ApprovalWorkflowDTO getWorkflow(UUID workflowId) {
         return workflowRepository.findById(workflowId)
                 .map(mapper::toDto)
+                .or(() -> workflowArchiver.findById(workflowId))
                 .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getWorkflowETag(UUID workflowId) {
+        return workflowRepository.findVersionStampById(workflowId)
+                .map(this::versionTag)
+                .or(() -> workflowArchiver.archivedAt(workflowId).map(this::archivedTag))
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getWorkflowByRequestETag(UUID travelRequestId) {
+        List<ApprovalWorkflowRepository.VersionStamp> stamps = workflowRepository.findVersionStampsByTravelRequestId(travelRequestId);
+        if (!stamps.isEmpty()) {
+            return stamps.stream().map(this::versionTag).collect(Collectors.joining("."));
+        }
+        return workflowArchiver.latestArchivedAt(travelRequestId).map(this::archivedTag).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getWorkflowHistoryETag(UUID travelRequestId) {
+        ApprovalActionRepository.HistoryStamp stamp = actionRepository.findHistoryStamp(travelRequestId);
+        return "h" + stamp.getActions() + "-" + epochMillis(stamp.getLatest());
+    }
+
+    private String versionTag(ApprovalWorkflowRepository.VersionStamp stamp) {
+        return stamp.getVersion() + "-" + epochMillis(stamp.getUpdatedAt());
+    }
+
+    private String archivedTag(LocalDateTime archivedAt) {
+        return "a" + epochMillis(archivedAt);
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? 0 : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ApprovalWorkflowDTO> getPendingApprovals(String approverRole, UUID approverId) {
@@ -818,6 +1062,59 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         return workflows.stream().map(mapper::toDto).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public InboxPageDTO getInbox(String approverRole, UUID approverId, String cursor, Integer limit) {
+        if (approverId == null && approverRole == null) {
+            throw new WorkflowException("Either approverRole or approverId must be provided");
+        }
+        int pageSize = limit == null ? DEFAULT_INBOX_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_INBOX_PAGE_SIZE));
+        InboxCursor after = cursor != null && !cursor.isBlank() ? InboxCursor.decode(cursor) : null;
+
+        // One extra row tells us whether another page exists without a COUNT
+        List<ApprovalWorkflow> rows;
+        if (approverId != null) {
+            rows = after == null
+                    ? workflowRepository.findInboxFirstPageByApprover(approverId, pageSize + 1)
+                    : workflowRepository.findInboxPageByApprover(approverId,
+                            after.priorityRank(), after.dueDate(), after.workflowId(), pageSize + 1);
+        } else {
+            rows = after == null
+                    ? workflowRepository.findInboxFirstPageByRole(approverRole, pageSize + 1)
+                    : workflowRepository.findInboxPageByRole(approverRole,
+                            after.priorityRank(), after.dueDate(), after.workflowId(), pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ApprovalWorkflow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        return InboxPageDTO.builder()
+                .items(page.stream().map(mapper::toDto).toList())
+                .nextCursor(hasMore ? InboxCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public WorkflowSearchPageDTO searchWorkflows(WorkflowSearchCriteria criteria) {
+        Integer limit = criteria.getLimit();
+        int pageSize = limit == null ? DEFAULT_SEARCH_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_SEARCH_PAGE_SIZE));
+        SearchCursor after = criteria.getCursor() != null && !criteria.getCursor().isBlank()
+                ? SearchCursor.decode(criteria.getCursor()) : null;
+
+        // One extra row tells us whether another page exists without a COUNT
+        List<ApprovalWorkflow> rows = workflowRepository.findBy(ApprovalWorkflowSpecifications.matching(criteria, after),
+                query -> query.sortBy(SEARCH_ORDER).limit(pageSize + 1).all());
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ApprovalWorkflow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        return WorkflowSearchPageDTO.builder()
+                .items(page.stream().map(mapper::toDto).toList())
+                .nextCursor(hasMore ? SearchCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<ApprovalWorkflowDTO> getPendingApprovalsByRole(String approverRole) {
@@ -836,166 +1133,305 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
     @Override
     @Transactional(readOnly = true)
     public List<ApprovalActionDTO> getWorkflowHistory(UUID travelRequestId) {
-        return actionRepository.findByTravelRequestIdOrderByCreatedAtDesc(travelRequestId)
+        List<ApprovalActionDTO> history = actionRepository.findByTravelRequestIdOrderByCreatedAtDesc(travelRequestId)
                 .stream().map(mapper::toActionDto).collect(Collectors.toList());
+        List<ApprovalActionDTO> archived = actionArchiveReader.findByTravelRequestId(travelRequestId);
+        if (!archived.isEmpty()) {
+            history.addAll(archived);
+            history.sort(Comparator.comparing(ApprovalActionDTO::getCreatedAt,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        return history;
     }
 
     @Override
     public ApprovalWorkflowDTO escalateWorkflow(UUID workflowId, String reason, UUID escalatedBy) {
-        ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
-        workflow.setStatus("ESCALATED");
-        workflow.setPriority("HIGH");
-        workflowRepository.save(workflow);
-        sendEscalationNotification(workflow, reason);
-        return mapper.toDto(workflow);
+        AtomicReference<String> observedState = new AtomicReference<>();
+        return optimisticRetrier.execute("escalate", workflowId, () -> {
+            ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+            requireUnchangedOnRetry(observedState, workflow);
+            workflow.setStatus("ESCALATED");
+            workflow.setPriority("HIGH");
+            workflowRepository.save(workflow);
+            sendEscalationNotification(workflow, reason);
+            return mapper.toDto(workflow);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ApprovalWorkflowDTO> getOverdueWorkflows() {
+        return workflowRepository.findByIsOverdueTrueAndStatus("PENDING").stream()
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public Map<UUID, SlaOutcome> processSlaTimeouts(List<UUID> workflowIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int escalateAfterHours = workflowProperties.getSla().getEscalateAfterHours();
+        Map<UUID, SlaOutcome> outcomes = new HashMap<>();
+        List<ApprovalAction> actions = new ArrayList<>();
+
+        for (ApprovalWorkflow workflow : workflowRepository.findAllById(workflowIds)) {
+            outcomes.put(workflow.getWorkflowId(), SlaOutcome.SKIPPED);
+            if (!"PENDING".equals(workflow.getStatus()) || workflow.getDueDate() == null) {
+                continue;
+            }
+
+            if (Boolean.TRUE.equals(workflow.getIsOverdue())) {
+                if (escalateAfterHours > 0 && workflow.getOverdueSince() != null
+                        && !workflow.getOverdueSince().plusHours(escalateAfterHours).isAfter(now)) {
+                    String reason = "Overdue for more than " + escalateAfterHours + "h at step " + workflow.getCurrentStep();
+                    actions.add(systemAction(workflow, "ESCALATE", reason));
+                    handleEscalate(workflow, reason);
+                    outcomes.put(workflow.getWorkflowId(), SlaOutcome.ESCALATED);
+                }
+                continue;
+            }
+            if (workflow.getDueDate().isAfter(now)) {
+                continue;
+            }
+
+            WorkflowStepGraph graph = stepGraphRegistry.getGraph(workflow.getWorkflowType());
+            boolean autoApprove = graph.findStep(workflow.getCurrentStep())
+                    .map(WorkflowStep::autoApproveAfterTimeout)
+                    .orElse(false);
+            if (autoApprove) {
+                actions.add(systemAction(workflow, "APPROVE", "Auto-approved after SLA timeout"));
+                handleApprove(workflow, graph, ApprovalRequestDTO.builder()
+                        .workflowId(workflow.getWorkflowId())
+                        .action("APPROVE")
+                        .approverRole("SYSTEM")
+                        .build());
+                outcomes.put(workflow.getWorkflowId(), SlaOutcome.AUTO_APPROVED);
+            } else {
+                workflow.setIsOverdue(true);
+                workflow.setOverdueSince(now);
+                workflow.setPriority("HIGH");
+                sendOverdueNotification(workflow);
+                outcomes.put(workflow.getWorkflowId(), SlaOutcome.MARKED_OVERDUE);
+            }
+        }
+
+        actionRepository.saveAll(actions);
+        return outcomes;
+    }
+
+    private ApprovalAction systemAction(ApprovalWorkflow workflow, String action, String comments) {
+        return ApprovalAction.builder()
+                .workflowId(workflow.getWorkflowId())
+                .travelRequestId(workflow.getTravelRequestId())
+                .approverRole("SYSTEM")
+                .action(action)
+                .step(workflow.getCurrentStep())
+                .comments(comments)
+                .escalationReason("ESCALATE".equals(action) ? comments : null)
+                .isEscalated("ESCALATE".equals(action))
+                .processingTimeSeconds(secondsInCurrentStep(workflow))
+                .actionTakenAt(LocalDateTime.now())
+                .build();
     }
 
     @Override
     public ApprovalWorkflowDTO reassignWorkflow(UUID workflowId, String newApproverRole, UUID newApproverId) {
-        ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
-        workflow.setCurrentApproverRole(newApproverRole);
-        workflow.setCurrentApproverId(newApproverId);
-        workflowRepository.save(workflow);
-        sendNextApprovalNotification(workflow);
-        return mapper.toDto(workflow);
+        AtomicReference<String> observedState = new AtomicReference<>();
+        return optimisticRetrier.execute("reassign", workflowId, () -> {
+            ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+            requireUnchangedOnRetry(observedState, workflow);
+            workflow.setCurrentApproverRole(newApproverRole);
+            workflow.setCurrentApproverId(newApproverId);
+            workflowRepository.save(workflow);
+            sendNextApprovalNotification(workflow);
+            return mapper.toDto(workflow);
+        });
+    }
+
+    @Override
+    public BulkReassignResultDTO bulkReassign(BulkReassignRequestDTO request) {
+        if (request.getFromApproverId().equals(request.getToApproverId())) {
+            throw new WorkflowException("Source and target approver must differ");
+        }
+        String comments = "Reassigned from " + request.getFromApproverId() + " to " + request.getToApproverId()
+                + (request.getReason() != null && !request.getReason().isBlank() ? ": " + request.getReason() : "");
+
+        List<ApprovalWorkflowRepository.ReassignedWorkflow> moved = transactionTemplate.execute(status -> {
+            List<ApprovalWorkflowRepository.ReassignedWorkflow> rows = workflowRepository.bulkReassign(
+                    request.getFromApproverId(), request.getToApproverId(), blankToNull(request.getToApproverRole()),
+                    blankToNull(request.getStep()), blankToNull(request.getWorkflowType()),
+                    request.getReassignedBy(), comments, LocalDateTime.now());
+            if (rows.isEmpty()) {
+                return rows;
+            }
+            // The bulk statement bypasses the entity listener, so announce each approver change here
+            rows.forEach(row -> eventPublisher.publishEvent(new WorkflowTransitionEvent(
+                    row.getWorkflowId(), row.getTravelRequestId(), row.getWorkflowType(),
+                    row.getStatus(), row.getStatus(), row.getCurrentStep(), row.getCurrentStep(),
+                    row.getPreviousRole(), row.getNewRole(),
+                    request.getFromApproverId(), request.getToApproverId(),
+                    row.getCreatedAt(), null, null)));
+            sendReassignmentDigest(request.getToApproverId(), rows.size());
+            return rows;
+        });
+
+        List<UUID> workflowIds = moved.stream().map(ApprovalWorkflowRepository.ReassignedWorkflow::getWorkflowId).toList();
+        log.info("✅ Reassigned {} pending workflow(s) from {} to {}", workflowIds.size(),
+                request.getFromApproverId(), request.getToApproverId());
+        return BulkReassignResultDTO.builder()
+                .fromApproverId(request.getFromApproverId())
+                .toApproverId(request.getToApproverId())
+                .reassigned(workflowIds.size())
+                .workflowIds(workflowIds)
+                .build();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 
     @Override
     public void reloadWorkflowConfigurations() {
+        stepGraphRegistry.reload();
         log.info("Workflow configurations reloaded");
     }
 
     @Override
-    @Transactional
     public ApprovalWorkflowDTO updateWorkflowPriority(UUID workflowId, String priority) {
-        ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
-        workflow.setPriority(priority);
-        ApprovalWorkflow updated = workflowRepository.save(workflow);
-        return mapper.toDto(updated);
+        // Priority does not depend on workflow state, so a replay is always valid
+        return optimisticRetrier.execute("priority", workflowId, () -> {
+            ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+            workflow.setPriority(priority);
+            ApprovalWorkflow updated = workflowRepository.save(workflow);
+            return mapper.toDto(updated);
+        });
+    }
+
+    @Override
+    public List<ApprovalWorkflowDTO> claimPendingByRole(String approverRole, UUID agentId, Integer limit) {
+        if (agentId == null) {
+            throw new WorkflowException("Approver id is required to claim workflows");
+        }
+        WorkflowProperties.Claims claims = workflowProperties.getClaims();
+        int batchSize = limit == null || limit <= 0 ? claims.getDefaultBatchSize() : Math.min(limit, claims.getMaxBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<ApprovalWorkflow> claimed = workflowRepository.claimPooled(
+                approverRole, agentId, now, now.plusMinutes(claims.getLeaseMinutes()), batchSize);
+        log.info("🧭 {} agent {} claimed {} workflow(s)", approverRole, agentId, claimed.size());
+        return claimed.stream()
+                .sorted(Comparator.comparing(ApprovalWorkflow::getPriorityRank, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(ApprovalWorkflow::getDueDate, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(mapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int renewClaims(UUID agentId, List<UUID> workflowIds) {
+        if (workflowIds == null || workflowIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return workflowRepository.renewClaims(agentId, workflowIds, now,
+                now.plusMinutes(workflowProperties.getClaims().getLeaseMinutes()));
+    }
+
+    @Override
+    public int releaseClaims(UUID agentId, List<UUID> workflowIds) {
+        return workflowIds == null || workflowIds.isEmpty()
+                ? workflowRepository.releaseAllClaims(agentId)
+                : workflowRepository.releaseClaims(agentId, workflowIds);
+    }
+
+    @Override
+    public int refreshTravelRequestSnapshot(UUID travelRequestId, TravelRequestProxyDTO travelRequest) {
+        int refreshed = workflowRepository.refreshTravelRequestSnapshot(travelRequestId, mapper.toSnapshot(travelRequest));
+        remoteLookup.evictTravelRequest(travelRequestId);
+        log.info("🧭 Refreshed travel request snapshot on {} workflow(s) for request {}", refreshed, travelRequestId);
+        return refreshed;
+    }
+
+    @Override
+    public List<HotWorkflowDTO> getHotWorkflows(int limit) {
+        return optimisticRetrier.hotWorkflows(limit);
+    }
+
+    @Override
+    public Map<UUID, Integer> getApproverLoads() {
+        return approverLoadBalancer.currentLoads();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public WorkflowMetricsDTO getWorkflowMetrics() {
-        long totalWorkflows = workflowRepository.count();
-        long pendingWorkflows = workflowRepository.countByStatus("PENDING");
-        long approvedWorkflows = workflowRepository.countByStatus("APPROVED");
-        long rejectedWorkflows = workflowRepository.countByStatus("REJECTED");
-        long escalatedWorkflows = workflowRepository.countByStatus("ESCALATED");
-
-        double averageApprovalTime = calculateAverageApprovalTime();
-
-        return WorkflowMetricsDTO.builder()
-                .totalWorkflows(totalWorkflows)
-                .pendingWorkflows(pendingWorkflows)
-                .approvedWorkflows(approvedWorkflows)
-                .rejectedWorkflows(rejectedWorkflows)
-                .escalatedWorkflows(escalatedWorkflows)
-                .averageApprovalTime(averageApprovalTime)
-                .build();
+        return workflowMetrics.getMetrics();
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ApprovalStatsDTO> getApprovalStatsByApprover(UUID approverId) {
-        List<ApprovalWorkflow> workflows = workflowRepository.findByCurrentApproverIdAndStatus(approverId, "PENDING");
-        
-        return List.of(ApprovalStatsDTO.builder()
-                .approverId(approverId)
-                .totalAssigned((long) workflows.size())
-                .pending((long) workflows.size())
-                .approved(0L)
-                .rejected(0L)
-                .averageProcessingTime(0.0)
-                .build());
+        return List.of(approverStats.getStats(approverId));
     }
 
     // Add missing notification methods implementation
-    @Async
     void sendRejectionNotification(ApprovalWorkflow workflow, String comments) {
-        try {
-            NotificationRequestDTO notification = NotificationRequestDTO.builder()
-                    .subject("Workflow Rejected")
-                    .message("Workflow " + workflow.getWorkflowId() + " was rejected. Comments: " + comments)
-                    .notificationType("WORKFLOW_REJECTED")
-                    .referenceId(workflow.getTravelRequestId())
-                    .referenceType("TRAVEL_REQUEST")
-                    .build();
-            notificationClient.sendNotification(notification);
-        } catch (Exception e) {
-            log.warn("Failed to send rejection notification: {}", e.getMessage());
-        }
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .subject("Workflow Rejected")
+                .message("Workflow " + workflow.getWorkflowId() + " was rejected. Comments: " + comments)
+                .notificationType("WORKFLOW_REJECTED")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
     }
 
-    @Async
     void sendReturnNotification(ApprovalWorkflow workflow, String comments) {
-        try {
-            NotificationRequestDTO notification = NotificationRequestDTO.builder()
-                    .subject("Workflow Returned")
-                    .message("Workflow " + workflow.getWorkflowId() + " returned for correction. Comments: " + comments)
-                    .notificationType("WORKFLOW_RETURNED")
-                    .referenceId(workflow.getTravelRequestId())
-                    .referenceType("TRAVEL_REQUEST")
-                    .build();
-            notificationClient.sendNotification(notification);
-        } catch (Exception e) {
-            log.warn("Failed to send return notification: {}", e.getMessage());
-        }
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .subject("Workflow Returned")
+                .message("Workflow " + workflow.getWorkflowId() + " returned for correction. Comments: " + comments)
+                .notificationType("WORKFLOW_RETURNED")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
+    }
+
+    void sendOverdueNotification(ApprovalWorkflow workflow) {
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .userId(workflow.getCurrentApproverId())
+                .subject("Approval Overdue")
+                .message("Workflow step " + workflow.getCurrentStep() + " passed its due date " + workflow.getDueDate())
+                .notificationType("APPROVAL_OVERDUE")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
     }
 
-    @Async
     void sendEscalationNotification(ApprovalWorkflow workflow, String reason) {
-        try {
-            NotificationRequestDTO notification = NotificationRequestDTO.builder()
-                    .subject("Workflow Escalated")
-                    .message("Workflow " + workflow.getWorkflowId() + " escalated. Reason: " + reason)
-                    .notificationType("WORKFLOW_ESCALATED")
-                    .referenceId(workflow.getTravelRequestId())
-                    .referenceType("TRAVEL_REQUEST")
-                    .build();
-            notificationClient.sendNotification(notification);
-        } catch (Exception e) {
-            log.warn("Failed to send escalation notification: {}", e.getMessage());
-        }
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .subject("Workflow Escalated")
+                .message("Workflow " + workflow.getWorkflowId() + " escalated. Reason: " + reason)
+                .notificationType("WORKFLOW_ESCALATED")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
     }
 
-    @Async
     void sendCompletionNotification(ApprovalWorkflow workflow) {
-        try {
-            NotificationRequestDTO notification = NotificationRequestDTO.builder()
-                    .subject("Workflow Completed")
-                    .message("Workflow " + workflow.getWorkflowId() + " has been completed")
-                    .notificationType("WORKFLOW_COMPLETED")
-                    .referenceId(workflow.getTravelRequestId())
-                    .referenceType("TRAVEL_REQUEST")
-                    .build();
-            notificationClient.sendNotification(notification);
-        } catch (Exception e) {
-            log.warn("Failed to send completion notification: {}", e.getMessage());
-        }
+        NotificationRequestDTO notification = NotificationRequestDTO.builder()
+                .subject("Workflow Completed")
+                .message("Workflow " + workflow.getWorkflowId() + " has been completed")
+                .notificationType("WORKFLOW_COMPLETED")
+                .referenceId(workflow.getTravelRequestId())
+                .referenceType("TRAVEL_REQUEST")
+                .build();
+        notificationOutbox.enqueue(notification);
     }
 
-    private double calculateAverageApprovalTime() {
-        List<ApprovalWorkflow> completedWorkflows = workflowRepository.findByStatus("APPROVED");
-        if (completedWorkflows.isEmpty()) {
-            return 0.0;
-        }
-        
-        double totalHours = completedWorkflows.stream()
-                .mapToDouble(wf -> {
-                    if (wf.getCreatedAt() != null && wf.getCompletedAt() != null) {
-                        return java.time.Duration.between(wf.getCreatedAt(), wf.getCompletedAt()).toHours();
-                    }
-                    return 0.0;
-                })
-                .sum();
-        
-        return totalHours / completedWorkflows.size();
-    }
-    
     private void logApproverAssignment(String stepName, String role, UUID approverId, UUID employeeId, String source) {
         if (approverId != null) {
             log.info("🧭 [{}] Assigned {} role to approver {} for employee {} (source: {})",
@@ -1017,50 +1453,12 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         if (!"TRAVEL_DESK_BOOKING".equals(workflow.getCurrentStep())) {
             throw new WorkflowException("Cannot add booking. Workflow is not in TRAVEL_DESK_BOOKING step. Current step: " + workflow.getCurrentStep());
         }
-
-        // Fetch existing booking details or create new ones
-        BookingDetailsDTO existingBookingDetails = convertJsonToBookingDetails(workflow.getBookingDetails());
-        if (existingBookingDetails == null) {
-            existingBookingDetails = BookingDetailsDTO.builder().build();
-        }
-
-        // Add the new booking to appropriate category based on booking type
-        switch (bookingDTO.getBookingType()) {
-            case FLIGHT -> {
-                if (existingBookingDetails.getFlightBookings() == null) {
-                    existingBookingDetails.setFlightBookings(new ArrayList<>());
-                }
-                existingBookingDetails.getFlightBookings().add(convertToFlightBooking(bookingDTO));
-            }
-            case HOTEL -> {
-                if (existingBookingDetails.getHotelBookings() == null) {
-                    existingBookingDetails.setHotelBookings(new ArrayList<>());
-                }
-                existingBookingDetails.getHotelBookings().add(convertToHotelBooking(bookingDTO));
-            }
-            case CAR_RENTAL -> {
-                if (existingBookingDetails.getCarRentals() == null) {
-                    existingBookingDetails.setCarRentals(new ArrayList<>());
-                }
-                existingBookingDetails.getCarRentals().add(convertToCarRental(bookingDTO));
-            }
-            case OTHER -> {
-                if (existingBookingDetails.getOtherBookings() == null) {
-                    existingBookingDetails.setOtherBookings(new ArrayList<>());
-                }
-                existingBookingDetails.getOtherBookings().add(convertToOtherBooking(bookingDTO));
-            }
+        if (bookingDTO.getBookingType() == null) {
+            throw new WorkflowException("Booking type is required");
         }
 
-        // Update total booking amount
-        Double currentTotal = existingBookingDetails.getTotalBookingAmount() != null ? 
-                existingBookingDetails.getTotalBookingAmount() : 0.0;
-        Double newBookingAmount = bookingDTO.getBookingAmount() != null ? bookingDTO.getBookingAmount() : 0.0;
-        existingBookingDetails.setTotalBookingAmount(currentTotal + newBookingAmount);
-
-        // Update workflow with new booking details
-        workflow.setBookingDetails(convertBookingDetailsToJson(existingBookingDetails));
-        workflow.setTotalBookingAmount(existingBookingDetails.getTotalBookingAmount());
+        WorkflowBooking booking = bookingRepository.save(bookingMapper.toEntity(workflow, bookingDTO));
+        workflow.applyBookingDelta(booking.getBookingType(), 1, booking.getBookingAmount());
 
         // Record the booking addition action
         actionRepository.save(ApprovalAction.builder()
@@ -1077,47 +1475,18 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
         workflowRepository.save(workflow);
         
         log.info("✅ Booking added to workflow {} by travel desk {}", workflowId, travelDeskId);
-        return bookingDTO;
+        return bookingMapper.toDto(booking);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TravelBookingDTO> getBookingsForWorkflow(UUID workflowId) {
-        ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
-
-        BookingDetailsDTO bookingDetails = convertJsonToBookingDetails(workflow.getBookingDetails());
-        if (bookingDetails == null) {
-            return List.of();
-        }
-
-        List<TravelBookingDTO> allBookings = new ArrayList<>();
-        
-        // Convert flight bookings
-        if (bookingDetails.getFlightBookings() != null) {
-            bookingDetails.getFlightBookings().forEach(fb -> 
-                allBookings.add(convertFromFlightBooking(fb, TravelBookingDTO.BookingType.FLIGHT)));
-        }
-        
-        // Convert hotel bookings
-        if (bookingDetails.getHotelBookings() != null) {
-            bookingDetails.getHotelBookings().forEach(hb -> 
-                allBookings.add(convertFromHotelBooking(hb, TravelBookingDTO.BookingType.HOTEL)));
-        }
-        
-        // Convert car rental bookings
-        if (bookingDetails.getCarRentals() != null) {
-            bookingDetails.getCarRentals().forEach(cr -> 
-                allBookings.add(convertFromCarRental(cr, TravelBookingDTO.BookingType.CAR_RENTAL)));
-        }
-        
-        // Convert other bookings
-        if (bookingDetails.getOtherBookings() != null) {
-            bookingDetails.getOtherBookings().forEach(ob -> 
-                allBookings.add(convertFromOtherBooking(ob, TravelBookingDTO.BookingType.OTHER)));
-        }
-
-        return allBookings;
+        List<WorkflowBooking> bookings = workflowRepository.existsById(workflowId)
+                ? bookingRepository.findByWorkflowIdOrderByCreatedAtAsc(workflowId)
+                : archivedBookings(workflowId).bookings();
+        return bookings.stream()
+                .map(bookingMapper::toDto)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -1130,9 +1499,9 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
             throw new WorkflowException("Cannot update booking status. Workflow is not in TRAVEL_DESK_BOOKING step.");
         }
 
-        // Note: Since we're storing bookings in JSON format, we don't have individual booking IDs
-        // This method would need to be enhanced if you want to update specific bookings
-        // For now, we'll record the action but the actual implementation would depend on your data structure
+        WorkflowBooking booking = bookingRepository.findByBookingIdAndWorkflowId(bookingId, workflowId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+        booking.setStatus(status.toUpperCase());
         
         actionRepository.save(ApprovalAction.builder()
                 .workflowId(workflowId)
@@ -1141,16 +1510,12 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .approverId(travelDeskId)
                 .action("UPDATE_BOOKING_STATUS")
                 .step("TRAVEL_DESK_BOOKING")
-                .comments("Updated booking status to: " + status)
+                .comments("Updated booking " + bookingId + " status to: " + status)
                 .actionTakenAt(LocalDateTime.now())
                 .build());
 
         log.info("✅ Booking status updated for workflow {} by travel desk {}", workflowId, travelDeskId);
-        
-        // Return a placeholder - in a real implementation, you'd return the updated booking
-        return TravelBookingDTO.builder()
-                .status(status)
-                .build();
+        return bookingMapper.toDto(bookingRepository.save(booking));
     }
 
     @Override
@@ -1163,8 +1528,11 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
             throw new WorkflowException("Cannot delete booking. Workflow is not in TRAVEL_DESK_BOOKING step.");
         }
 
-        // Note: Since we're storing bookings in JSON format, deleting specific bookings would require
-        // modifying the JSON structure. This is a simplified implementation.
+        WorkflowBooking booking = bookingRepository.findByBookingIdAndWorkflowId(bookingId, workflowId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+        bookingRepository.delete(booking);
+        workflow.applyBookingDelta(booking.getBookingType(), -1, booking.getBookingAmount());
+        workflowRepository.save(workflow);
         
         actionRepository.save(ApprovalAction.builder()
                 .workflowId(workflowId)
@@ -1173,7 +1541,7 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
                 .approverId(travelDeskId)
                 .action("DELETE_BOOKING")
                 .step("TRAVEL_DESK_BOOKING")
-                .comments("Deleted booking from workflow")
+                .comments("Deleted " + booking.getBookingType() + " booking " + bookingId + " from workflow")
                 .actionTakenAt(LocalDateTime.now())
                 .build());
 
@@ -1183,177 +1551,62 @@ public class ApprovalWorkflowServiceImpl implements ApprovalWorkflowService {
     @Override
     @Transactional(readOnly = true)
     public WorkflowBookingStatsDTO getWorkflowBookingStats(UUID workflowId) {
-        ApprovalWorkflow workflow = workflowRepository.findById(workflowId)
-                .orElseThrow(() -> new ResourceNotFoundException("Workflow not found"));
+        Optional<ApprovalWorkflow> live = workflowRepository.findById(workflowId);
+        if (live.isEmpty()) {
+            return archivedBookingStats(workflowId);
+        }
+        ApprovalWorkflow workflow = live.get();
 
-        BookingDetailsDTO bookingDetails = convertJsonToBookingDetails(workflow.getBookingDetails());
-        
-        int totalBookings = calculateTotalBookings(bookingDetails);
-        Double totalAmount = workflow.getTotalBookingAmount() != null ? workflow.getTotalBookingAmount() : 0.0;
-        
-        // Calculate bookings by type
         Map<String, Integer> bookingsByType = new HashMap<>();
-        if (bookingDetails != null) {
-            if (bookingDetails.getFlightBookings() != null) {
-                bookingsByType.put("FLIGHT", bookingDetails.getFlightBookings().size());
-            }
-            if (bookingDetails.getHotelBookings() != null) {
-                bookingsByType.put("HOTEL", bookingDetails.getHotelBookings().size());
-            }
-            if (bookingDetails.getCarRentals() != null) {
-                bookingsByType.put("CAR_RENTAL", bookingDetails.getCarRentals().size());
-            }
-            if (bookingDetails.getOtherBookings() != null) {
-                bookingsByType.put("OTHER", bookingDetails.getOtherBookings().size());
-            }
-        }
-        
-        // For status breakdown, we'd need to track individual booking statuses
-        // This is a simplified version
+        putIfPositive(bookingsByType, "FLIGHT", workflow.getFlightBookingCount());
+        putIfPositive(bookingsByType, "HOTEL", workflow.getHotelBookingCount());
+        putIfPositive(bookingsByType, "TRAIN", workflow.getTrainBookingCount());
+        putIfPositive(bookingsByType, "CAR_RENTAL", workflow.getCarRentalBookingCount());
+        putIfPositive(bookingsByType, "OTHER", workflow.getOtherBookingCount());
+
         Map<String, Integer> bookingsByStatus = new HashMap<>();
-        bookingsByStatus.put("CONFIRMED", totalBookings); // Assuming all are confirmed for now
-        
+        bookingRepository.countByStatus(workflowId)
+                .forEach(row -> bookingsByStatus.put(row.getStatus(), (int) row.getTotal()));
+
         return WorkflowBookingStatsDTO.builder()
                 .workflowId(workflowId)
                 .travelRequestId(workflow.getTravelRequestId())
-                .totalBookings(totalBookings)
-                .totalBookingAmount(totalAmount)
+                .totalBookings(workflow.getBookingCount() != null ? workflow.getBookingCount() : 0)
+                .totalBookingAmount(workflow.getTotalBookingAmount() != null ? workflow.getTotalBookingAmount() : 0.0)
                 .bookingsByType(bookingsByType)
                 .bookingsByStatus(bookingsByStatus)
-                .pendingBookings(0) // Would need actual status tracking
-                .confirmedBookings(totalBookings)
-                .cancelledBookings(0) // Would need actual status tracking
-                .build();
-    }
-
-    // ============ HELPER METHODS FOR BOOKING CONVERSION ============
-
-    private BookingDetailsDTO.FlightBookingDTO convertToFlightBooking(TravelBookingDTO bookingDTO) {
-        return BookingDetailsDTO.FlightBookingDTO.builder()
-                .airline(extractAirlineFromDetails(bookingDTO.getDetails()))
-                .flightNumber(extractFlightNumberFromDetails(bookingDTO.getDetails()))
-                .departureAirport("") // Would need to parse from details
-                .arrivalAirport("") // Would need to parse from details
-                .departureDate(bookingDTO.getBookingDate() != null ? bookingDTO.getBookingDate().toString() : "")
-                .arrivalDate("") // Would need separate field
-                .amount(bookingDTO.getBookingAmount())
-                .bookingReference(bookingDTO.getBookingReference())
-                .status(bookingDTO.getStatus())
-                .build();
-    }
-
-    private BookingDetailsDTO.HotelBookingDTO convertToHotelBooking(TravelBookingDTO bookingDTO) {
-        return BookingDetailsDTO.HotelBookingDTO.builder()
-                .hotelName(extractHotelNameFromDetails(bookingDTO.getDetails()))
-                .location("") // Would need to parse from details
-                .checkInDate("") // Would need separate fields
-                .checkOutDate("") // Would need separate fields
-                .numberOfNights(1) // Default
-                .amount(bookingDTO.getBookingAmount())
-                .bookingReference(bookingDTO.getBookingReference())
-                .status(bookingDTO.getStatus())
-                .build();
-    }
-
-    private BookingDetailsDTO.CarRentalDTO convertToCarRental(TravelBookingDTO bookingDTO) {
-        return BookingDetailsDTO.CarRentalDTO.builder()
-                .rentalCompany(extractRentalCompanyFromDetails(bookingDTO.getDetails()))
-                .carType("") // Would need to parse from details
-                .pickupDate("") // Would need separate fields
-                .dropoffDate("") // Would need separate fields
-                .pickupLocation("") // Would need to parse from details
-                .amount(bookingDTO.getBookingAmount())
-                .bookingReference(bookingDTO.getBookingReference())
-                .status(bookingDTO.getStatus())
-                .build();
-    }
-
-    private BookingDetailsDTO.OtherBookingDTO convertToOtherBooking(TravelBookingDTO bookingDTO) {
-        return BookingDetailsDTO.OtherBookingDTO.builder()
-                .type(bookingDTO.getBookingType().name())
-                .description(bookingDTO.getDetails())
-                .date(bookingDTO.getBookingDate() != null ? bookingDTO.getBookingDate().toString() : "")
-                .amount(bookingDTO.getBookingAmount())
-                .bookingReference(bookingDTO.getBookingReference())
-                .status(bookingDTO.getStatus())
+                .pendingBookings(bookingsByStatus.getOrDefault("PENDING", 0))
+                .confirmedBookings(bookingsByStatus.getOrDefault("CONFIRMED", 0))
+                .cancelledBookings(bookingsByStatus.getOrDefault("CANCELLED", 0))
                 .build();
     }
 
-    private TravelBookingDTO convertFromFlightBooking(BookingDetailsDTO.FlightBookingDTO flightBooking, TravelBookingDTO.BookingType type) {
-        return TravelBookingDTO.builder()
-                .bookingType(type)
-                .details(String.format("%s %s - %s to %s", 
-                        flightBooking.getAirline(), 
-                        flightBooking.getFlightNumber(),
-                        flightBooking.getDepartureAirport(),
-                        flightBooking.getArrivalAirport()))
-                .bookingReference(flightBooking.getBookingReference())
-                .bookingAmount(flightBooking.getAmount())
-                .status(flightBooking.getStatus())
-                .build();
-    }
-
-    private TravelBookingDTO convertFromHotelBooking(BookingDetailsDTO.HotelBookingDTO hotelBooking, TravelBookingDTO.BookingType type) {
-        return TravelBookingDTO.builder()
-                .bookingType(type)
-                .details(String.format("%s - %s", 
-                        hotelBooking.getHotelName(), 
-                        hotelBooking.getLocation()))
-                .bookingReference(hotelBooking.getBookingReference())
-                .bookingAmount(hotelBooking.getAmount())
-                .status(hotelBooking.getStatus())
-                .build();
-    }
-
-    private TravelBookingDTO convertFromCarRental(BookingDetailsDTO.CarRentalDTO carRental, TravelBookingDTO.BookingType type) {
-        return TravelBookingDTO.builder()
-                .bookingType(type)
-                .details(String.format("%s - %s", 
-                        carRental.getRentalCompany(), 
-                        carRental.getCarType()))
-                .bookingReference(carRental.getBookingReference())
-                .bookingAmount(carRental.getAmount())
-                .status(carRental.getStatus())
-                .build();
-    }
+    // Archived bookings are few per workflow; count them in memory instead of keeping counters
+    private WorkflowBookingStatsDTO archivedBookingStats(UUID workflowId) {
+        WorkflowArchiver.ArchivedBookings archived = archivedBookings(workflowId);
+        Map<String, Integer> bookingsByType = new HashMap<>();
+        Map<String, Integer> bookingsByStatus = new HashMap<>();
+        for (WorkflowBooking booking : archived.bookings()) {
+            bookingsByType.merge(booking.getBookingType(), 1, Integer::sum);
+            bookingsByStatus.merge(booking.getStatus(), 1, Integer::sum);
+        }
 
-    private TravelBookingDTO convertFromOtherBooking(BookingDetailsDTO.OtherBookingDTO otherBooking, TravelBookingDTO.BookingType type) {
-        return TravelBookingDTO.builder()
-                .bookingType(type)
-                .details(otherBooking.getDescription())
-                .bookingReference(otherBooking.getBookingReference())
-                .bookingAmount(otherBooking.getAmount())
-                .status(otherBooking.getStatus())
+        return WorkflowBookingStatsDTO.builder()
+                .workflowId(workflowId)
+                .travelRequestId(archived.travelRequestId())
+                .totalBookings(archived.bookings().size())
+                .totalBookingAmount(archived.totalBookingAmount() != null ? archived.totalBookingAmount() : 0.0)
+                .bookingsByType(bookingsByType)
+                .bookingsByStatus(bookingsByStatus)
+                .pendingBookings(bookingsByStatus.getOrDefault("PENDING", 0))
+                .confirmedBookings(bookingsByStatus.getOrDefault("CONFIRMED", 0))
+                .cancelledBookings(bookingsByStatus.getOrDefault("CANCELLED", 0))
                 .build();
     }
-    
-    
-
-    // Simple extraction methods - these would need to be more sophisticated in production
-    private String extractAirlineFromDetails(String details) {
-        if (details == null) return "Unknown Airline";
-        return details.split(" ")[0];
-    }
 
-    private String extractFlightNumberFromDetails(String details) {
-        if (details == null) return "";
-        // Simple extraction - would need more sophisticated parsing
-        String[] parts = details.split(" ");
-        for (String part : parts) {
-            if (part.matches(".*\\d+.*")) {
-                return part;
-            }
+    private void putIfPositive(Map<String, Integer> counts, String type, Integer count) {
+        if (count != null && count > 0) {
+            counts.put(type, count);
         }
-        return "";
-    }
-
-    private String extractHotelNameFromDetails(String details) {
-        if (details == null) return "Unknown Hotel";
-        return details.split("-")[0].trim();
-    }
-
-    private String extractRentalCompanyFromDetails(String details) {
-        if (details == null) return "Unknown Rental Company";
-        return details.split("-")[0].trim();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.bwc.approval_workflow_service.service.impl;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bwc.approval_workflow_service.dto.ApprovalStatsDTO;
+import com.bwc.approval_workflow_service.entity.ApproverStats;
+import com.bwc.approval_workflow_service.repository.ApproverStatsRepository;
+import com.bwc.approval_workflow_service.service.ApproverStatsService;
+import com.bwc.approval_workflow_service.workflow.ApproverLoadBalancer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApproverStatsServiceImpl implements ApproverStatsService {
+
+    private final ApproverStatsRepository statsRepository;
+    private final ApproverLoadBalancer approverLoadBalancer;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApprovalStatsDTO getStats(UUID approverId) {
+        // Live count kept by the load balancer from transition events, so no scan of approval_workflows
+        long pending = approverId != null ? approverLoadBalancer.pendingCount(approverId) : 0;
+        ApproverStats stats = approverId != null ? statsRepository.findById(approverId).orElse(null) : null;
+        if (stats == null) {
+            return ApprovalStatsDTO.builder()
+                    .approverId(approverId)
+                    .totalAssigned(pending)
+                    .pending(pending)
+                    .approved(0L)
+                    .rejected(0L)
+                    .averageProcessingTime(0.0)
+                    .build();
+        }
+
+        long decided = stats.getApprovedCount() + stats.getRejectedCount()
+                + stats.getReturnedCount() + stats.getEscalatedCount();
+        double averageHours = stats.getProcessingTimeCount() == 0 ? 0.0
+                : stats.getProcessingTimeSecondsSum() / (double) stats.getProcessingTimeCount() / 3600.0;
+        return ApprovalStatsDTO.builder()
+                .approverRole(stats.getApproverRole())
+                .approverId(approverId)
+                .totalAssigned(decided + pending)
+                .pending(pending)
+                .approved(stats.getApprovedCount())
+                .rejected(stats.getRejectedCount())
+                .averageProcessingTime(averageHours)
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        statsRepository.deleteAllRows();
+        int rows = statsRepository.rebuildFromActions();
+        log.info("✅ Approver stats rebuilt for {} approver(s)", rows);
+        return rows;
+    }
+}
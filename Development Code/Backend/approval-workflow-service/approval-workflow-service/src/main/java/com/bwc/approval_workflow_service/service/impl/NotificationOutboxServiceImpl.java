@@ -0,0 +1,266 @@
+package com.bwc.approval_workflow_service.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.bwc.approval_workflow_service.client.NotificationServiceClient;
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.NotificationRequestDTO;
+import com.bwc.approval_workflow_service.entity.NotificationOutbox;
+import com.bwc.approval_workflow_service.repository.NotificationOutboxRepository;
+import com.bwc.approval_workflow_service.service.NotificationOutboxService;
+
+import feign.FeignException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers queued notifications after commit. Routine approval prompts are held for the digest
+ * window and sent as one merged message per recipient through the batch endpoint; everything
+ * else (escalations, overdue alerts, outcomes) is sent on its own as soon as it is due.
+ */
+@Slf4j
+@Service
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationServiceClient notificationClient;
+    private final ThreadPoolTaskExecutor dispatchExecutor;
+    private final WorkflowProperties.Outbox settings;
+    private final WorkflowProperties.Digest digestSettings;
+
+    // Set once the notification service answers 404 for the batch endpoint
+    private volatile boolean batchEndpointMissing;
+
+    public NotificationOutboxServiceImpl(NotificationOutboxRepository outboxRepository,
+                                         NotificationServiceClient notificationClient,
+                                         @Qualifier("notificationDispatchExecutor") ThreadPoolTaskExecutor dispatchExecutor,
+                                         WorkflowProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.notificationClient = notificationClient;
+        this.dispatchExecutor = dispatchExecutor;
+        this.settings = properties.getNotifications().getOutbox();
+        this.digestSettings = properties.getNotifications().getDigest();
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(NotificationRequestDTO notification) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean digest = isDigestible(notification);
+        outboxRepository.save(NotificationOutbox.builder()
+                .userId(notification.getUserId())
+                .userEmail(notification.getUserEmail())
+                .subject(notification.getSubject())
+                .message(notification.getMessage())
+                .notificationType(notification.getNotificationType())
+                .referenceId(notification.getReferenceId())
+                .referenceType(notification.getReferenceType())
+                .digest(digest)
+                .nextAttemptAt(digest ? now.plusNanos(digestSettings.getWindowMs() * 1_000_000) : now)
+                .build());
+
+        if (digest && outboxRepository.countPendingDigest(notification.getUserId()) >= digestSettings.getMaxSize()) {
+            outboxRepository.releaseDigest(notification.getUserId(), now);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${workflow.notifications.outbox.poll-interval-ms:1000}")
+    public int dispatchPending() {
+        int capacity = Math.min(settings.getBatchSize(),
+                dispatchExecutor.getThreadPoolExecutor().getQueue().remainingCapacity());
+        if (capacity <= 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusNanos(settings.getLeaseMs() * 1_000_000);
+        List<NotificationOutbox> batch;
+        Map<UUID, List<NotificationOutbox>> digests = new LinkedHashMap<>();
+        try {
+            batch = outboxRepository.claimBatch(now, leaseUntil, capacity);
+            for (NotificationOutbox entry : batch) {
+                if (Boolean.TRUE.equals(entry.getDigest()) && entry.getUserId() != null) {
+                    digests.computeIfAbsent(entry.getUserId(), id -> new ArrayList<>()).add(entry);
+                }
+            }
+            // A due item opens its recipient's digest: take the rest of that recipient's queue with it
+            digests.forEach((userId, items) -> {
+                int room = digestSettings.getMaxSize() - items.size();
+                if (room > 0) {
+                    items.addAll(outboxRepository.claimDigestItems(userId, now, leaseUntil, room));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Failed to claim notification outbox batch: {}", e.getMessage());
+            return 0;
+        }
+
+        for (NotificationOutbox entry : batch) {
+            if (digests.containsKey(entry.getUserId()) && Boolean.TRUE.equals(entry.getDigest())) {
+                continue;
+            }
+            try {
+                dispatchExecutor.execute(() -> deliver(entry));
+            } catch (RejectedExecutionException e) {
+                // Lease expiry hands the row back to the next poll
+                log.debug("Dispatch queue full, outbox entry {} left for next poll", entry.getOutboxId());
+            }
+        }
+        if (!digests.isEmpty()) {
+            try {
+                dispatchExecutor.execute(() -> deliverDigests(digests));
+            } catch (RejectedExecutionException e) {
+                log.debug("Dispatch queue full, {} digest(s) left for next poll", digests.size());
+            }
+        }
+        if (!batch.isEmpty()) {
+            log.debug("Dispatched {} outbox notification(s), {} digest(s)", batch.size(), digests.size());
+        }
+        return batch.size();
+    }
+
+    @Scheduled(cron = "${workflow.notifications.outbox.purge-cron:0 15 * * * *}")
+    public void purgeDelivered() {
+        int purged = outboxRepository.deleteSentBefore(LocalDateTime.now().minusHours(settings.getRetentionHours()));
+        if (purged > 0) {
+            log.info("Purged {} delivered outbox notification(s)", purged);
+        }
+    }
+
+    private void deliver(NotificationOutbox entry) {
+        try {
+            notificationClient.sendNotification(toRequest(entry));
+            outboxRepository.markSent(entry.getOutboxId(), LocalDateTime.now());
+        } catch (Exception e) {
+            int attempts = entry.getAttempts() + 1;
+            boolean exhausted = attempts >= settings.getMaxAttempts();
+            LocalDateTime nextAttempt = LocalDateTime.now().plusNanos(backoffMs(attempts) * 1_000_000);
+            outboxRepository.markAttemptFailed(entry.getOutboxId(), exhausted ? "FAILED" : "PENDING",
+                    nextAttempt, truncate(e.getMessage()));
+            if (exhausted) {
+                log.error("❌ Notification {} ({}) failed after {} attempts: {}",
+                        entry.getOutboxId(), entry.getNotificationType(), attempts, e.getMessage());
+            } else {
+                log.warn("⚠️ Notification {} attempt {} failed, retrying at {}: {}",
+                        entry.getOutboxId(), attempts, nextAttempt, e.getMessage());
+            }
+        }
+    }
+
+    private void deliverDigests(Map<UUID, List<NotificationOutbox>> digests) {
+        if (batchEndpointMissing) {
+            digests.values().forEach(this::deliverDigest);
+            return;
+        }
+
+        List<NotificationRequestDTO> requests = new ArrayList<>(digests.size());
+        List<UUID> ids = new ArrayList<>();
+        for (List<NotificationOutbox> items : digests.values()) {
+            requests.add(items.size() == 1 ? toRequest(items.get(0)) : toDigest(items));
+            items.forEach(item -> ids.add(item.getOutboxId()));
+        }
+
+        try {
+            notificationClient.sendNotifications(requests);
+            outboxRepository.markAllSent(ids, LocalDateTime.now());
+            log.debug("Delivered {} digest(s) covering {} notification(s)", requests.size(), ids.size());
+        } catch (FeignException.NotFound e) {
+            batchEndpointMissing = true;
+            log.warn("⚠️ Notification service has no batch endpoint, sending digests one by one");
+            digests.values().forEach(this::deliverDigest);
+        } catch (Exception e) {
+            markDigestFailed(ids, maxAttempts(digests.values().stream().flatMap(List::stream).toList()), e);
+        }
+    }
+
+    private void deliverDigest(List<NotificationOutbox> items) {
+        List<UUID> ids = items.stream().map(NotificationOutbox::getOutboxId).toList();
+        try {
+            notificationClient.sendNotification(items.size() == 1 ? toRequest(items.get(0)) : toDigest(items));
+            outboxRepository.markAllSent(ids, LocalDateTime.now());
+        } catch (Exception e) {
+            markDigestFailed(ids, maxAttempts(items), e);
+        }
+    }
+
+    private void markDigestFailed(List<UUID> ids, int attempts, Exception e) {
+        LocalDateTime nextAttempt = LocalDateTime.now().plusNanos(backoffMs(attempts) * 1_000_000);
+        outboxRepository.markAllAttemptFailed(ids, settings.getMaxAttempts(), nextAttempt, truncate(e.getMessage()));
+        log.warn("⚠️ Digest of {} notification(s) failed (attempt {}), retrying at {}: {}",
+                ids.size(), attempts, nextAttempt, e.getMessage());
+    }
+
+    private static int maxAttempts(List<NotificationOutbox> items) {
+        return items.stream().mapToInt(item -> item.getAttempts() + 1).max().orElse(1);
+    }
+
+    private NotificationRequestDTO toDigest(List<NotificationOutbox> items) {
+        StringBuilder message = new StringBuilder();
+        int listed = 0;
+        for (NotificationOutbox item : items) {
+            String line = "- " + item.getMessage() + "\n";
+            if (message.length() + line.length() > 1900) {
+                break;
+            }
+            message.append(line);
+            listed++;
+        }
+        if (listed < items.size()) {
+            message.append("... and ").append(items.size() - listed).append(" more");
+        }
+
+        NotificationOutbox first = items.get(0);
+        return NotificationRequestDTO.builder()
+                .userId(first.getUserId())
+                .userEmail(items.stream().map(NotificationOutbox::getUserEmail).filter(Objects::nonNull).findFirst().orElse(null))
+                .subject(items.size() + " travel requests awaiting your action")
+                .message(message.toString().trim())
+                .notificationType("APPROVAL_DIGEST")
+                .referenceType("DIGEST")
+                .build();
+    }
+
+    private boolean isDigestible(NotificationRequestDTO notification) {
+        return digestSettings.isEnabled()
+                && notification.getUserId() != null
+                && digestSettings.getTypes().contains(notification.getNotificationType());
+    }
+
+    private long backoffMs(int attempts) {
+        long exponential = settings.getInitialBackoffMs() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, settings.getMaxBackoffMs());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private NotificationRequestDTO toRequest(NotificationOutbox entry) {
+        return NotificationRequestDTO.builder()
+                .userId(entry.getUserId())
+                .userEmail(entry.getUserEmail())
+                .subject(entry.getSubject())
+                .message(entry.getMessage())
+                .notificationType(entry.getNotificationType())
+                .referenceId(entry.getReferenceId())
+                .referenceType(entry.getReferenceType())
+                .build();
+    }
+
+    private String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,99 @@
+package com.bwc.approval_workflow_service.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+
+import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
+import com.bwc.approval_workflow_service.client.TravelRequestServiceClient;
+import com.bwc.approval_workflow_service.config.CacheConfig;
+import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.bwc.approval_workflow_service.dto.TravelRequestProxyDTO;
+import com.bwc.approval_workflow_service.service.RemoteLookupService;
+import com.bwc.approval_workflow_service.util.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class RemoteLookupServiceImpl implements RemoteLookupService {
+
+    private final EmployeeServiceClient employeeClient;
+    private final TravelRequestServiceClient travelRequestClient;
+    // Cache misses for the same id during a burst share one remote call
+    private final SingleFlight<UUID, EmployeeProxyDTO> employeeFlights;
+    private final SingleFlight<UUID, TravelRequestProxyDTO> travelRequestFlights;
+
+    public RemoteLookupServiceImpl(EmployeeServiceClient employeeClient,
+                                   TravelRequestServiceClient travelRequestClient,
+                                   MeterRegistry meterRegistry) {
+        this.employeeClient = employeeClient;
+        this.travelRequestClient = travelRequestClient;
+        this.employeeFlights = new SingleFlight<>(coalescedCounter(meterRegistry, "employee-service")::increment);
+        this.travelRequestFlights = new SingleFlight<>(coalescedCounter(meterRegistry, "travel-request-service")::increment);
+        Gauge.builder("workflow.remote.calls.inflight", employeeFlights, SingleFlight::inFlight)
+                .tag("target", "employee-service")
+                .register(meterRegistry);
+        Gauge.builder("workflow.remote.calls.inflight", travelRequestFlights, SingleFlight::inFlight)
+                .tag("target", "travel-request-service")
+                .register(meterRegistry);
+    }
+
+    private static Counter coalescedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("workflow.remote.calls.coalesced")
+                .description("Remote lookups served by joining an identical in-flight call")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId", unless = "#result == null")
+    public EmployeeProxyDTO getEmployee(UUID employeeId) {
+        log.debug("Employee cache miss for {}", employeeId);
+        return employeeFlights.execute(employeeId, () -> employeeClient.getEmployee(employeeId));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.TRAVEL_REQUESTS, key = "#travelRequestId", unless = "#result == null")
+    public TravelRequestProxyDTO getTravelRequest(UUID travelRequestId) {
+        log.debug("Travel request cache miss for {}", travelRequestId);
+        return travelRequestFlights.execute(travelRequestId, () -> travelRequestClient.getTravelRequest(travelRequestId));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.APPROVERS_BY_ROLE, key = "#role.toUpperCase()")
+    public List<EmployeeProxyDTO> getEmployeesByRole(String role) {
+        log.debug("Approvers-by-role cache miss for {}", role);
+        List<EmployeeProxyDTO> employees = employeeClient.getEmployeesByRole(role.toUpperCase());
+        return employees != null ? List.copyOf(employees) : List.of();
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, key = "#employeeId")
+    public void evictEmployee(UUID employeeId) {
+        log.debug("Evicted employee {} from near-cache", employeeId);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TRAVEL_REQUESTS, key = "#travelRequestId")
+    public void evictTravelRequest(UUID travelRequestId) {
+        log.debug("Evicted travel request {} from near-cache", travelRequestId);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EMPLOYEES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.TRAVEL_REQUESTS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.APPROVERS_BY_ROLE, allEntries = true)
+    })
+    public void evictAll() {
+        log.info("🧹 Cleared employee and travel request near-caches");
+    }
+}
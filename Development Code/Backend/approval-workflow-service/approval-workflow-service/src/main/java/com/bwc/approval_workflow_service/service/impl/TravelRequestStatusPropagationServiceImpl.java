@@ -0,0 +1,113 @@
+package com.bwc.approval_workflow_service.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bwc.approval_workflow_service.client.TravelRequestServiceClient;
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.BulkStatusUpdateResultDTO;
+import com.bwc.approval_workflow_service.dto.TravelRequestStatusUpdateDTO;
+import com.bwc.approval_workflow_service.entity.TravelRequestStatusOutbox;
+import com.bwc.approval_workflow_service.repository.TravelRequestStatusOutboxRepository;
+import com.bwc.approval_workflow_service.service.TravelRequestStatusPropagationService;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class TravelRequestStatusPropagationServiceImpl implements TravelRequestStatusPropagationService {
+
+    private final TravelRequestStatusOutboxRepository outboxRepository;
+    private final TravelRequestServiceClient travelRequestClient;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowProperties.StatusPropagation settings;
+
+    public TravelRequestStatusPropagationServiceImpl(TravelRequestStatusOutboxRepository outboxRepository,
+                                                     TravelRequestServiceClient travelRequestClient,
+                                                     TransactionTemplate transactionTemplate,
+                                                     WorkflowProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.travelRequestClient = travelRequestClient;
+        this.transactionTemplate = transactionTemplate;
+        this.settings = properties.getStatusPropagation();
+    }
+
+    @Override
+    @Transactional
+    public void enqueue(UUID travelRequestId, String status) {
+        outboxRepository.upsertLatest(travelRequestId, status, LocalDateTime.now());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${workflow.status-propagation.poll-interval-ms:1000}")
+    public int dispatchPending() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TravelRequestStatusOutbox> batch;
+        try {
+            batch = outboxRepository.claimBatch(now, now.plusNanos(settings.getLeaseMs() * 1_000_000),
+                    settings.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Failed to claim travel request status batch: {}", e.getMessage());
+            return 0;
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<TravelRequestStatusUpdateDTO> updates = batch.stream()
+                .map(entry -> TravelRequestStatusUpdateDTO.builder()
+                        .travelRequestId(entry.getTravelRequestId())
+                        .status(entry.getStatus())
+                        .build())
+                .toList();
+
+        try {
+            BulkStatusUpdateResultDTO result = travelRequestClient.updateRequestStatuses(updates);
+            if (result != null && result.getNotFound() != null && !result.getNotFound().isEmpty()) {
+                log.warn("⚠️ Travel requests not found while propagating status: {}", result.getNotFound());
+            }
+            transactionTemplate.executeWithoutResult(tx -> acknowledge(batch));
+            log.debug("Propagated {} travel request status update(s)", batch.size());
+        } catch (Exception e) {
+            transactionTemplate.executeWithoutResult(tx -> reschedule(batch, e));
+            log.warn("⚠️ Bulk status propagation of {} request(s) failed: {}", batch.size(), e.getMessage());
+        }
+        return batch.size();
+    }
+
+    private void acknowledge(List<TravelRequestStatusOutbox> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        for (TravelRequestStatusOutbox entry : batch) {
+            // Revision guard: a status written after the claim stays queued and goes out next poll
+            if (outboxRepository.deleteDelivered(entry.getTravelRequestId(), entry.getRevision()) == 0) {
+                outboxRepository.releaseSuperseded(entry.getTravelRequestId(), entry.getRevision(), now);
+            }
+        }
+    }
+
+    private void reschedule(List<TravelRequestStatusOutbox> batch, Exception e) {
+        String error = truncate(e.getMessage());
+        for (TravelRequestStatusOutbox entry : batch) {
+            LocalDateTime nextAttempt = LocalDateTime.now().plusNanos(backoffMs(entry.getAttempts() + 1) * 1_000_000);
+            outboxRepository.markAttemptFailed(entry.getTravelRequestId(), nextAttempt, error);
+        }
+    }
+
+    private long backoffMs(int attempts) {
+        long exponential = settings.getInitialBackoffMs() << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, settings.getMaxBackoffMs());
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private String truncate(String message) {
+        if (message == null) return null;
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
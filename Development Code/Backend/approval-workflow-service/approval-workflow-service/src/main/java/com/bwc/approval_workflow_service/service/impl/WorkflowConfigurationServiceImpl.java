@@ -3,6 +3,7 @@ package com.bwc.approval_workflow_service.service.impl;
 import com.bwc.approval_workflow_service.entity.WorkflowConfiguration;
 import com.bwc.approval_workflow_service.repository.WorkflowConfigurationRepository;
 import com.bwc.approval_workflow_service.service.WorkflowConfigurationService;
+import com.bwc.approval_workflow_service.workflow.WorkflowStepGraphRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import java.util.UUID;
 public class WorkflowConfigurationServiceImpl implements WorkflowConfigurationService {
 
     private final WorkflowConfigurationRepository repository;
+    private final WorkflowStepGraphRegistry stepGraphRegistry;
 
     @Override
     public List<WorkflowConfiguration> getActiveWorkflowByType(String workflowType) {
@@ -42,6 +44,7 @@ public class WorkflowConfigurationServiceImpl implements WorkflowConfigurationSe
         // Validate sequence order is unique for this workflow type
         validateSequenceOrder(configuration);
         WorkflowConfiguration saved = repository.save(configuration);
+        stepGraphRegistry.reload();
         log.info("Workflow configuration saved successfully: {}", saved.getConfigId());
         return saved;
     }
@@ -50,6 +53,7 @@ public class WorkflowConfigurationServiceImpl implements WorkflowConfigurationSe
     public void delete(UUID configId) {
         log.debug("Deleting workflow configuration: {}", configId);
         repository.deleteById(configId);
+        stepGraphRegistry.reload();
         log.info("Workflow configuration deleted: {}", configId);
     }
 
@@ -71,8 +75,8 @@ public class WorkflowConfigurationServiceImpl implements WorkflowConfigurationSe
 
     @Override
     public void reloadConfigurations() {
-        // Clear any cached configurations if caching is implemented
-        log.info("Workflow configurations reloaded - cache cleared if applicable");
+        stepGraphRegistry.reload();
+        log.info("Workflow configurations reloaded - step graphs recompiled");
     }
 
     private void validateSequenceOrder(WorkflowConfiguration configuration) {
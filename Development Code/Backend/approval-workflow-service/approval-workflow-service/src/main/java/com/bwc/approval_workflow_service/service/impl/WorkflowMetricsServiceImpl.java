@@ -0,0 +1,123 @@
+package com.bwc.approval_workflow_service.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bwc.approval_workflow_service.dto.WorkflowMetricsDTO;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
+import com.bwc.approval_workflow_service.service.WorkflowMetricsService;
+import com.bwc.approval_workflow_service.workflow.WorkflowTransitionEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves workflow metrics from an immutable snapshot that committed transitions update in place.
+ * The scheduled reconcile replaces it with fresh database totals, so missed or racing
+ * events only skew numbers until the next run.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkflowMetricsServiceImpl implements WorkflowMetricsService {
+
+    private record StatusTotals(long count, long timedCount, double durationSeconds) {
+        static final StatusTotals EMPTY = new StatusTotals(0, 0, 0);
+
+        StatusTotals plus(long count, long timed, double seconds) {
+            return new StatusTotals(this.count + count, timedCount + timed, durationSeconds + seconds);
+        }
+    }
+
+    private final ApprovalWorkflowRepository workflowRepository;
+
+    private final AtomicReference<Map<String, StatusTotals>> snapshot = new AtomicReference<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to preload workflow metrics, will load on first request: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public WorkflowMetricsDTO getMetrics() {
+        Map<String, StatusTotals> totals = snapshot.get();
+        if (totals == null) {
+            reconcile();
+            totals = snapshot.get();
+        }
+
+        long total = totals.values().stream().mapToLong(StatusTotals::count).sum();
+        StatusTotals approved = totals.getOrDefault("APPROVED", StatusTotals.EMPTY);
+        double averageHours = approved.timedCount() == 0 ? 0.0
+                : approved.durationSeconds() / approved.timedCount() / 3600.0;
+
+        return WorkflowMetricsDTO.builder()
+                .totalWorkflows(total)
+                .pendingWorkflows(countOf(totals, "PENDING"))
+                .approvedWorkflows(countOf(totals, "APPROVED"))
+                .rejectedWorkflows(countOf(totals, "REJECTED"))
+                .escalatedWorkflows(countOf(totals, "ESCALATED"))
+                .averageApprovalTime(averageHours)
+                .build();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${workflow.metrics.reconcile-interval-ms:300000}",
+               initialDelayString = "${workflow.metrics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<String, StatusTotals> fresh = new HashMap<>();
+        workflowRepository.aggregateByStatus().forEach(row -> fresh.put(row.getStatus(),
+                new StatusTotals(row.getTotal(), row.getTimedCount(), row.getDurationSeconds())));
+        snapshot.set(Map.copyOf(fresh));
+        log.debug("Workflow metrics reconciled: {}", fresh.keySet());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(WorkflowTransitionEvent event) {
+        if (!event.statusChanged() || snapshot.get() == null) {
+            return;
+        }
+        StatusTotals removed = contribution(event.createdAt(), event.previousCompletedAt());
+        StatusTotals added = contribution(event.createdAt(), event.completedAt());
+
+        snapshot.updateAndGet(current -> {
+            Map<String, StatusTotals> next = new HashMap<>(current);
+            if (event.previousStatus() != null) {
+                next.merge(event.previousStatus(),
+                        StatusTotals.EMPTY.plus(-removed.count(), -removed.timedCount(), -removed.durationSeconds()),
+                        this::sum);
+            }
+            next.merge(event.newStatus(), added, this::sum);
+            return Map.copyOf(next);
+        });
+    }
+
+    private StatusTotals contribution(LocalDateTime createdAt, LocalDateTime completedAt) {
+        if (createdAt == null || completedAt == null) {
+            return new StatusTotals(1, 0, 0);
+        }
+        return new StatusTotals(1, 1, Duration.between(createdAt, completedAt).toMillis() / 1000.0);
+    }
+
+    private StatusTotals sum(StatusTotals a, StatusTotals b) {
+        return a.plus(b.count(), b.timedCount(), b.durationSeconds());
+    }
+
+    private long countOf(Map<String, StatusTotals> totals, String status) {
+        return totals.getOrDefault(status, StatusTotals.EMPTY).count();
+    }
+}
@@ -0,0 +1,74 @@
+package com.bwc.approval_workflow_service.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Hashed timing wheel: O(1) scheduling, and each tick only inspects one bucket.
+ * Deadlines more than one revolution away wait out their remaining rounds in the bucket.
+ * Not lock-free; callers are the SLA refill and tick jobs, so a monitor is plenty.
+ */
+public class HashedTimerWheel<T> {
+
+    public record Expired<T>(T payload, long deadlineMs) {}
+
+    private record Entry<T>(T payload, long deadlineMs, long expiryTick) {}
+
+    private final long tickMs;
+    private final int mask;
+    private final List<LinkedList<Entry<T>>> buckets;
+    private long currentTick;
+    private int size;
+
+    public HashedTimerWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0) {
+            throw new IllegalArgumentException("tickMs must be positive");
+        }
+        int normalized = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickMs = tickMs;
+        this.mask = normalized - 1;
+        this.buckets = new ArrayList<>(normalized);
+        for (int i = 0; i < normalized; i++) {
+            buckets.add(new LinkedList<>());
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * Schedule {@code payload} at {@code deadlineMs}; past deadlines fire on the next advance.
+     */
+    public synchronized void schedule(T payload, long deadlineMs) {
+        long expiryTick = Math.max(deadlineMs / tickMs, currentTick);
+        buckets.get((int) (expiryTick & mask)).add(new Entry<>(payload, deadlineMs, expiryTick));
+        size++;
+    }
+
+    /**
+     * Move the wheel forward to {@code nowMs} and return everything that expired on the way.
+     */
+    public synchronized List<Expired<T>> advance(long nowMs) {
+        List<Expired<T>> expired = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        // Never sweep the same bucket twice in one call, however long we were paused
+        long last = Math.min(targetTick, currentTick + mask);
+        for (long tick = currentTick; tick <= last; tick++) {
+            Iterator<Entry<T>> it = buckets.get((int) (tick & mask)).iterator();
+            while (it.hasNext()) {
+                Entry<T> entry = it.next();
+                if (entry.expiryTick() <= targetTick) {
+                    it.remove();
+                    size--;
+                    expired.add(new Expired<>(entry.payload(), entry.deadlineMs()));
+                }
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
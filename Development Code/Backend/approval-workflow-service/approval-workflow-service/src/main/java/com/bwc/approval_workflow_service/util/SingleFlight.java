@@ -0,0 +1,62 @@
+package com.bwc.approval_workflow_service.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Merges concurrent calls for the same key into one execution.
+ * The first caller runs the supplier; callers arriving while it is in flight
+ * wait for and share its result or exception. Nothing is kept once the call
+ * finishes, so this is not a cache.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Runnable onCoalesced;
+
+    public SingleFlight(Runnable onCoalesced) {
+        this.onCoalesced = onCoalesced;
+    }
+
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            onCoalesced.run();
+            return await(leader);
+        }
+
+        try {
+            V value = call.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.ApprovalActionDTO;
+import com.bwc.approval_workflow_service.entity.ActionArchive;
+import com.bwc.approval_workflow_service.repository.ActionArchiveRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads archived approval actions back from the gzip NDJSON files written by {@link ActionPartitionManager}.
+ * Only files indexed for the travel request are opened. A file that cannot be read fails the
+ * whole lookup rather than returning a silently truncated history. Exports stream whole files
+ * through {@link #forEach}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActionArchiveReader {
+
+    private final ActionArchiveRepository archiveRepository;
+    private final ObjectMapper objectMapper;
+
+    public List<ApprovalActionDTO> findByTravelRequestId(UUID travelRequestId) {
+        List<ActionArchive> archives = archiveRepository.findByTravelRequestId(travelRequestId);
+        if (archives.isEmpty()) {
+            return List.of();
+        }
+
+        String needle = travelRequestId.toString();
+        List<ApprovalActionDTO> actions = new ArrayList<>();
+        for (ActionArchive archive : archives) {
+            Path file = Paths.get(archive.getFilePath());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // Cheap substring check before paying for JSON parsing
+                    if (!line.contains(needle)) {
+                        continue;
+                    }
+                    ApprovalActionDTO action = objectMapper.readValue(line, ApprovalActionDTO.class);
+                    if (travelRequestId.equals(action.getTravelRequestId())) {
+                        actions.add(action);
+                    }
+                }
+            } catch (IOException e) {
+                log.error("❌ Failed to read action archive {} for request {}: {}",
+                        archive.getPartitionName(), travelRequestId, e.getMessage());
+                throw new UncheckedIOException("Archived approval history for request " + travelRequestId
+                        + " is unavailable (" + archive.getPartitionName() + ")", e);
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * Archives whose month overlaps {@code [from, to)}, oldest first; with a travel request, only those indexed for it.
+     * Every file is checked up front so an export fails before it writes anything instead of part-way through.
+     */
+    public List<ActionArchive> findCovering(LocalDateTime from, LocalDateTime to, UUID travelRequestId) {
+        Set<UUID> indexed = travelRequestId == null ? null
+                : archiveRepository.findByTravelRequestId(travelRequestId).stream()
+                        .map(ActionArchive::getArchiveId)
+                        .collect(Collectors.toSet());
+        List<ActionArchive> archives = archiveRepository.findAllByOrderByPeriodStartAsc().stream()
+                .filter(archive -> from == null || archive.getPeriodEnd().isAfter(from))
+                .filter(archive -> to == null || archive.getPeriodStart().isBefore(to))
+                .filter(archive -> indexed == null || indexed.contains(archive.getArchiveId()))
+                .toList();
+        for (ActionArchive archive : archives) {
+            if (!Files.isReadable(Paths.get(archive.getFilePath()))) {
+                log.error("❌ Action archive {} is not readable at {}", archive.getPartitionName(), archive.getFilePath());
+                throw new UncheckedIOException(new IOException("Archived approval actions are unavailable ("
+                        + archive.getPartitionName() + ")"));
+            }
+        }
+        return archives;
+    }
+
+    /**
+     * Hands every action in the file to {@code consumer}, in the order it was written (created_at).
+     */
+    public void forEach(ActionArchive archive, Consumer<ApprovalActionDTO> consumer) {
+        Path file = Paths.get(archive.getFilePath());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                consumer.accept(objectMapper.readValue(line, ApprovalActionDTO.class));
+            }
+        } catch (IOException e) {
+            log.error("❌ Failed to read action archive {}: {}", archive.getPartitionName(), e.getMessage());
+            throw new UncheckedIOException("Archived approval actions are unavailable ("
+                    + archive.getPartitionName() + ")", e);
+        }
+    }
+}
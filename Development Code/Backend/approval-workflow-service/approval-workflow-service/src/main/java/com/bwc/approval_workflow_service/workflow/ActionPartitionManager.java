@@ -0,0 +1,308 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.ApprovalActionDTO;
+import com.bwc.approval_workflow_service.entity.ActionArchive;
+import com.bwc.approval_workflow_service.repository.ActionArchiveRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps approval_actions range-partitioned by month on created_at (PostgreSQL).
+ * On startup an unpartitioned table is converted in one transaction; the maintenance job
+ * pre-creates upcoming months and moves partitions past the retention window into
+ * gzip NDJSON files, recording each file and the travel requests it covers so
+ * {@link ActionArchiveReader} can serve them back through the history API. Each archived
+ * partition's per-approver totals are added to approver_stats_baseline so a stats rebuild keeps them.
+ * Opt-in via {@code workflow.action-archive.partitioning-enabled}.
+ */
+@Slf4j
+@Component
+public class ActionPartitionManager {
+
+    private static final String TABLE = "approval_actions";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^approval_actions_p(\\d{4})(\\d{2})$");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ActionArchiveRepository archiveRepository;
+    private final ObjectMapper objectMapper;
+    private final WorkflowProperties.ActionArchive settings;
+
+    public ActionPartitionManager(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  ActionArchiveRepository archiveRepository,
+                                  ObjectMapper objectMapper,
+                                  WorkflowProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.archiveRepository = archiveRepository;
+        this.objectMapper = objectMapper;
+        this.settings = properties.getActionArchive();
+        if (settings.isPartitioningEnabled()) {
+            String dir = settings.getArchiveDir();
+            if (dir == null || dir.isBlank() || !Paths.get(dir).isAbsolute()) {
+                throw new IllegalStateException("workflow.action-archive.archive-dir must be an absolute path on shared "
+                        + "storage when partitioning is enabled, got: " + dir);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!settings.isPartitioningEnabled()) {
+            return;
+        }
+        try {
+            if (!isPartitioned()) {
+                convertToPartitioned();
+            }
+            ensureUpcomingPartitions();
+        } catch (Exception e) {
+            log.error("❌ Failed to prepare approval_actions partitions: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${workflow.action-archive.maintenance-cron:0 30 2 * * *}")
+    public void maintain() {
+        if (!settings.isPartitioningEnabled() || !isPartitioned()) {
+            return;
+        }
+        ensureUpcomingPartitions();
+
+        YearMonth cutoff = YearMonth.now().minusMonths(settings.getRetentionMonths());
+        for (String partition : listPartitions()) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(cutoff)) {
+                try {
+                    archivePartition(partition, month);
+                } catch (Exception e) {
+                    log.error("❌ Failed to archive partition {}: {}", partition, e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt
+                               JOIN pg_class c ON c.oid = pt.partrelid
+                               WHERE c.relname = ?)
+                """, Boolean.class, TABLE);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private void convertToPartitioned() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("LOCK TABLE approval_actions IN ACCESS EXCLUSIVE MODE");
+            jdbcTemplate.update("UPDATE approval_actions SET created_at = COALESCE(action_taken_at, NOW()) WHERE created_at IS NULL");
+            LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM approval_actions", LocalDateTime.class);
+
+            jdbcTemplate.execute("ALTER TABLE approval_actions RENAME TO approval_actions_unpartitioned");
+            jdbcTemplate.execute("ALTER TABLE approval_actions_unpartitioned RENAME CONSTRAINT approval_actions_pkey TO approval_actions_unpartitioned_pkey");
+            jdbcTemplate.execute("""
+                    CREATE TABLE approval_actions (LIKE approval_actions_unpartitioned INCLUDING DEFAULTS)
+                    PARTITION BY RANGE (created_at)""");
+            // The partition key has to be part of the primary key
+            jdbcTemplate.execute("ALTER TABLE approval_actions ADD CONSTRAINT approval_actions_pkey PRIMARY KEY (action_id, created_at)");
+
+            YearMonth from = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+            for (YearMonth month = from; !month.isAfter(YearMonth.now()); month = month.plusMonths(1)) {
+                createPartition(month);
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS approval_actions_default PARTITION OF approval_actions DEFAULT");
+
+            int copied = jdbcTemplate.update("INSERT INTO approval_actions SELECT * FROM approval_actions_unpartitioned");
+            jdbcTemplate.execute("DROP TABLE approval_actions_unpartitioned");
+            createIndexes();
+            log.info("✅ Converted approval_actions to monthly partitions ({} rows, from {})", copied, from);
+        });
+    }
+
+    private void createIndexes() {
+        // Created on the parent so every current and future partition gets its own copy
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_action_travel_request ON approval_actions (travel_request_id, created_at)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_action_workflow ON approval_actions (workflow_id, created_at)");
+    }
+
+    private void ensureUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= settings.getPremakeMonths(); i++) {
+            createPartition(current.plusMonths(i));
+        }
+    }
+
+    private void createPartition(YearMonth month) {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.plusMonths(1).atDay(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF approval_actions FOR VALUES FROM ('" + start + "') TO ('" + end + "')");
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ?
+                ORDER BY c.relname
+                """, String.class, TABLE);
+    }
+
+    private void archivePartition(String partition, YearMonth month) throws IOException {
+        Path dir = Paths.get(settings.getArchiveDir());
+        if (!Files.isDirectory(dir) || !Files.isWritable(dir)) {
+            // Not created on demand: a missing mount would otherwise send archives to local disk
+            throw new IOException("Archive directory " + dir + " is missing or not writable");
+        }
+        Path target = dir.resolve(partition + ".ndjson.gz");
+        Path temp = dir.resolve(partition + ".ndjson.gz.part");
+
+        Set<UUID> travelRequestIds = new HashSet<>();
+        long rows = writeArchive(partition, temp, travelRequestIds);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        // Index rows and the detach commit together; a failure leaves the partition in place for the next run
+        transactionTemplate.executeWithoutResult(status -> {
+            ActionArchive archive = archiveRepository.findByPartitionName(partition)
+                    .orElseGet(() -> ActionArchive.builder().partitionName(partition).build());
+            archive.setPeriodStart(month.atDay(1).atStartOfDay());
+            archive.setPeriodEnd(month.plusMonths(1).atDay(1).atStartOfDay());
+            archive.setFilePath(target.toAbsolutePath().toString());
+            archive.setRowCount(rows);
+            archive.setArchivedAt(LocalDateTime.now());
+            UUID archiveId = archiveRepository.saveAndFlush(archive).getArchiveId();
+
+            List<Object[]> refs = new ArrayList<>(travelRequestIds.size());
+            travelRequestIds.forEach(id -> refs.add(new Object[] { UUID.randomUUID(), id, archiveId }));
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO approval_action_archive_refs (ref_id, travel_request_id, archive_id)
+                    VALUES (?, ?, ?) ON CONFLICT DO NOTHING
+                    """, refs);
+            addToStatsBaseline(partition);
+
+            jdbcTemplate.execute("ALTER TABLE approval_actions DETACH PARTITION " + partition);
+            jdbcTemplate.execute("DROP TABLE " + partition);
+        });
+        log.info("✅ Archived partition {} ({} actions, {} travel requests) to {}", partition, rows, travelRequestIds.size(), target);
+    }
+
+    private void addToStatsBaseline(String partition) {
+        jdbcTemplate.update("""
+                INSERT INTO approver_stats_baseline (approver_id, approver_role, approved_count, rejected_count,
+                    returned_count, escalated_count, processing_time_seconds_sum, processing_time_count, updated_at)
+                SELECT approver_id,
+                       MAX(approver_role),
+                       COUNT(*) FILTER (WHERE action = 'APPROVE'),
+                       COUNT(*) FILTER (WHERE action = 'REJECT'),
+                       COUNT(*) FILTER (WHERE action = 'RETURN'),
+                       COUNT(*) FILTER (WHERE action = 'ESCALATE'),
+                       COALESCE(SUM(processing_time_seconds) FILTER (WHERE action IN ('APPROVE', 'REJECT', 'RETURN')), 0),
+                       COUNT(processing_time_seconds) FILTER (WHERE action IN ('APPROVE', 'REJECT', 'RETURN')),
+                       NOW()
+                FROM %s
+                WHERE approver_id IS NOT NULL AND action IN ('APPROVE', 'REJECT', 'RETURN', 'ESCALATE')
+                GROUP BY approver_id
+                ON CONFLICT (approver_id) DO UPDATE SET
+                    approver_role = EXCLUDED.approver_role,
+                    approved_count = approver_stats_baseline.approved_count + EXCLUDED.approved_count,
+                    rejected_count = approver_stats_baseline.rejected_count + EXCLUDED.rejected_count,
+                    returned_count = approver_stats_baseline.returned_count + EXCLUDED.returned_count,
+                    escalated_count = approver_stats_baseline.escalated_count + EXCLUDED.escalated_count,
+                    processing_time_seconds_sum = approver_stats_baseline.processing_time_seconds_sum
+                        + EXCLUDED.processing_time_seconds_sum,
+                    processing_time_count = approver_stats_baseline.processing_time_count + EXCLUDED.processing_time_count,
+                    updated_at = EXCLUDED.updated_at
+                """.formatted(partition));
+    }
+
+    private long writeArchive(String partition, Path file, Set<UUID> travelRequestIds) throws IOException {
+        long[] rows = { 0 };
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8))) {
+            // Cursor-based fetch needs a transaction on PostgreSQL
+            transactionTemplate.executeWithoutResult(status -> {
+                JdbcTemplate cursor = new JdbcTemplate(jdbcTemplate.getDataSource());
+                cursor.setFetchSize(settings.getFetchSize());
+                cursor.query("SELECT * FROM " + partition + " ORDER BY created_at", rs -> {
+                    ApprovalActionDTO action = toDto(rs);
+                    travelRequestIds.add(action.getTravelRequestId());
+                    try {
+                        writer.write(objectMapper.writeValueAsString(action));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+            });
+        }
+        return rows[0];
+    }
+
+    private ApprovalActionDTO toDto(ResultSet rs) throws SQLException {
+        return ApprovalActionDTO.builder()
+                .actionId(rs.getObject("action_id", UUID.class))
+                .workflowId(rs.getObject("workflow_id", UUID.class))
+                .travelRequestId(rs.getObject("travel_request_id", UUID.class))
+                .approverRole(rs.getString("approver_role"))
+                .approverId(rs.getObject("approver_id", UUID.class))
+                .approverName(rs.getString("approver_name"))
+                .action(rs.getString("action"))
+                .step(rs.getString("step"))
+                .comments(rs.getString("comments"))
+                .escalationReason(rs.getString("escalation_reason"))
+                .isEscalated(rs.getObject("is_escalated", Boolean.class))
+                .amountApproved(rs.getObject("amount_approved", Double.class))
+                .reimbursementAmount(rs.getObject("reimbursement_amount", Double.class))
+                .processingTimeSeconds(rs.getObject("processing_time_seconds", Long.class))
+                .actionTakenAt(rs.getObject("action_taken_at", LocalDateTime.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .build();
+    }
+
+    private static String partitionName(YearMonth month) {
+        return TABLE + "_p" + month.format(SUFFIX);
+    }
+
+    private static YearMonth monthOf(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        return matcher.matches()
+                ? YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)))
+                : null;
+    }
+}
@@ -0,0 +1,173 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
+import com.bwc.approval_workflow_service.service.RemoteLookupService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the least-loaded eligible approver for a role.
+ * Load is the approver's committed PENDING count, kept current from transition events,
+ * plus reservations for assignments whose transaction has not committed yet. A reservation
+ * is consumed by the matching commit or lapses after a short TTL if the transaction rolled back.
+ * The scheduled reconcile replaces the counts with database totals. Only roles listed in
+ * {@code workflow.assignment.roles} are assigned; the others are worked through the claim queue.
+ */
+@Slf4j
+@Component
+public class ApproverLoadBalancer {
+
+    private final ApprovalWorkflowRepository workflowRepository;
+    private final RemoteLookupService remoteLookup;
+    private final WorkflowProperties.Assignment settings;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, AtomicInteger> pending = new ConcurrentHashMap<>();
+    private final Map<UUID, ConcurrentLinkedDeque<Long>> reservations = new ConcurrentHashMap<>();
+
+    public ApproverLoadBalancer(ApprovalWorkflowRepository workflowRepository,
+                                RemoteLookupService remoteLookup,
+                                WorkflowProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.workflowRepository = workflowRepository;
+        this.remoteLookup = remoteLookup;
+        this.settings = properties.getAssignment();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("workflow.assignment.approvers.tracked", pending, Map::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to seed approver load counts: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.assignment.reconcile-interval-ms:300000}",
+               initialDelayString = "${workflow.assignment.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Map<UUID, Integer> fresh = new HashMap<>();
+        workflowRepository.countPendingByApprover().forEach(row -> fresh.put(row.getApproverId(), (int) row.getPending()));
+        pending.keySet().retainAll(fresh.keySet());
+        fresh.forEach((approverId, count) -> pending.computeIfAbsent(approverId, id -> new AtomicInteger()).set(count));
+        log.debug("Approver load reconciled for {} approver(s)", fresh.size());
+    }
+
+    /**
+     * Least-loaded approver holding {@code role}, never {@code excludedId} (the requester),
+     * or {@code null} when the role is pooled or nobody is eligible and the step should stay in the role pool.
+     */
+    public UUID assign(String role, UUID excludedId) {
+        if (!isAssigned(role)) {
+            return null;
+        }
+
+        List<UUID> candidates;
+        try {
+            candidates = remoteLookup.getEmployeesByRole(role).stream()
+                    .map(EmployeeProxyDTO::getEmployeeId)
+                    .filter(Objects::nonNull)
+                    .filter(id -> !id.equals(excludedId))
+                    .distinct()
+                    .toList();
+        } catch (Exception e) {
+            log.warn("⚠️ Could not load {} approvers, leaving step unassigned: {}", role, e.getMessage());
+            counter("workflow.assignment.unassigned", role).increment();
+            return null;
+        }
+        if (candidates.isEmpty()) {
+            counter("workflow.assignment.unassigned", role).increment();
+            return null;
+        }
+
+        long now = System.nanoTime();
+        // Random tie-break so equal loads do not all land on the first approver returned
+        UUID chosen = candidates.stream()
+                .min(Comparator.<UUID>comparingInt(id -> load(id, now))
+                        .thenComparingInt(id -> ThreadLocalRandom.current().nextInt()))
+                .orElseThrow();
+        reservations.computeIfAbsent(chosen, id -> new ConcurrentLinkedDeque<>())
+                .addLast(now + settings.getReservationTtlSeconds() * 1_000_000_000L);
+        counter("workflow.assignment.assigned", role).increment();
+        return chosen;
+    }
+
+    public boolean isAssigned(String role) {
+        return settings.isEnabled() && role != null
+                && settings.getRoles().stream().anyMatch(role::equalsIgnoreCase);
+    }
+
+    // Committed PENDING workflows only; reservations are not work the approver can see yet
+    public int pendingCount(UUID approverId) {
+        AtomicInteger committed = pending.get(approverId);
+        return committed != null ? committed.get() : 0;
+    }
+
+    public Map<UUID, Integer> currentLoads() {
+        long now = System.nanoTime();
+        Map<UUID, Integer> loads = new HashMap<>();
+        pending.keySet().forEach(id -> loads.put(id, load(id, now)));
+        reservations.keySet().forEach(id -> loads.put(id, load(id, now)));
+        return loads;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(WorkflowTransitionEvent event) {
+        boolean wasCounted = "PENDING".equals(event.previousStatus()) && event.previousApproverId() != null;
+        boolean isCounted = "PENDING".equals(event.newStatus()) && event.newApproverId() != null;
+        if (wasCounted && isCounted && event.previousApproverId().equals(event.newApproverId())) {
+            return;
+        }
+        if (wasCounted) {
+            pending.computeIfAbsent(event.previousApproverId(), id -> new AtomicInteger())
+                    .updateAndGet(count -> Math.max(count - 1, 0));
+        }
+        if (isCounted) {
+            pending.computeIfAbsent(event.newApproverId(), id -> new AtomicInteger()).incrementAndGet();
+            ConcurrentLinkedDeque<Long> held = reservations.get(event.newApproverId());
+            if (held != null) {
+                held.pollFirst();
+            }
+        }
+    }
+
+    private int load(UUID approverId, long now) {
+        AtomicInteger committed = pending.get(approverId);
+        ConcurrentLinkedDeque<Long> held = reservations.get(approverId);
+        int reserved = 0;
+        if (held != null) {
+            held.removeIf(expiresAt -> expiresAt - now < 0);
+            reserved = held.size();
+        }
+        return (committed != null ? committed.get() : 0) + reserved;
+    }
+
+    private Counter counter(String name, String role) {
+        return Counter.builder(name).tag("role", role).register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.bwc.approval_workflow_service.entity.ApprovalAction;
+import com.bwc.approval_workflow_service.repository.ApproverStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Folds approval decisions into approver_stats inside the transaction that records them.
+ * Deltas are accumulated per approver and written with one upsert each just before commit,
+ * so a bulk action touches every approver row once and a rollback leaves the rollup untouched.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApproverStatsRecorder {
+
+    private static final Set<String> DECISIONS = Set.of("APPROVE", "REJECT", "RETURN", "ESCALATE");
+    private static final Set<String> TIMED = Set.of("APPROVE", "REJECT", "RETURN");
+
+    private final ApproverStatsRepository statsRepository;
+
+    private static final class Delta {
+        String role;
+        long approved, rejected, returned, escalated, processingSeconds, processingCount;
+    }
+
+    public void record(ApprovalAction action) {
+        String decision = action.getAction() != null ? action.getAction().toUpperCase() : null;
+        if (action.getApproverId() == null || !DECISIONS.contains(decision)) {
+            return;
+        }
+
+        Map<UUID, Delta> pending = pendingDeltas();
+        Delta delta = pending.computeIfAbsent(action.getApproverId(), id -> new Delta());
+        delta.role = action.getApproverRole();
+        switch (decision) {
+            case "APPROVE" -> delta.approved++;
+            case "REJECT" -> delta.rejected++;
+            case "RETURN" -> delta.returned++;
+            default -> delta.escalated++;
+        }
+        if (TIMED.contains(decision) && action.getProcessingTimeSeconds() != null) {
+            delta.processingSeconds += action.getProcessingTimeSeconds();
+            delta.processingCount++;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            writeDeltas(pending);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Delta> pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+        Map<UUID, Delta> pending = (Map<UUID, Delta>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<UUID, Delta> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeDeltas(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ApproverStatsRecorder.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void writeDeltas(Map<UUID, Delta> pending) {
+        pending.forEach((approverId, d) -> statsRepository.increment(approverId, d.role,
+                d.approved, d.rejected, d.returned, d.escalated, d.processingSeconds, d.processingCount));
+        pending.clear();
+    }
+}
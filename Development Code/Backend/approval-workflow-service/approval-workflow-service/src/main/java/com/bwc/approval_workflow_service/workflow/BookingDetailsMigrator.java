@@ -0,0 +1,89 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bwc.approval_workflow_service.dto.BookingDetailsDTO;
+import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.entity.WorkflowBooking;
+import com.bwc.approval_workflow_service.mapper.WorkflowBookingMapper;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
+import com.bwc.approval_workflow_service.repository.WorkflowBookingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One-off move of the legacy booking_details JSON into workflow_bookings rows and counter columns.
+ * Runs at startup in small transactions; workflows already migrated have non-null counters.
+ * The legacy column is left in place so the source document stays available.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingDetailsMigrator {
+
+    private final ApprovalWorkflowRepository workflowRepository;
+    private final WorkflowBookingRepository bookingRepository;
+    private final WorkflowBookingMapper bookingMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        int migrated = 0;
+        try {
+            Integer batch;
+            do {
+                batch = transactionTemplate.execute(tx -> migrateBatch());
+                migrated += batch != null ? batch : 0;
+            } while (batch != null && batch > 0);
+        } catch (Exception e) {
+            log.warn("⚠️ Booking details migration stopped after {} workflow(s): {}", migrated, e.getMessage());
+            return;
+        }
+        if (migrated > 0) {
+            log.info("✅ Migrated booking details of {} workflow(s) to workflow_bookings", migrated);
+        }
+    }
+
+    private int migrateBatch() {
+        List<ApprovalWorkflow> workflows = workflowRepository.findTop100ByBookingCountIsNull();
+        for (ApprovalWorkflow workflow : workflows) {
+            Double legacyTotal = workflow.getTotalBookingAmount();
+            workflow.resetBookingCounters();
+
+            BookingDetailsDTO details = parse(workflow);
+            List<WorkflowBooking> bookings = bookingMapper.fromBookingDetails(workflow, details);
+            bookingRepository.saveAll(bookings);
+            bookings.forEach(b -> workflow.applyBookingDelta(b.getBookingType(), 1, b.getBookingAmount()));
+            if (legacyTotal != null) {
+                workflow.setTotalBookingAmount(legacyTotal);
+            }
+            if (details != null) {
+                workflow.setBookingNotes(details.getBookingNotes());
+            }
+        }
+        workflowRepository.saveAll(workflows);
+        return workflows.size();
+    }
+
+    private BookingDetailsDTO parse(ApprovalWorkflow workflow) {
+        String json = workflow.getBookingDetails();
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, BookingDetailsDTO.class);
+        } catch (Exception e) {
+            log.warn("⚠️ Unreadable booking details on workflow {}, starting with no bookings: {}",
+                    workflow.getWorkflowId(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+
+/**
+ * Opaque keyset position in an approver inbox: the sort key of the last row returned.
+ */
+public record InboxCursor(int priorityRank, LocalDateTime dueDate, UUID workflowId) {
+
+    public static InboxCursor after(ApprovalWorkflow workflow) {
+        return new InboxCursor(workflow.getPriorityRank(), workflow.getDueDate(), workflow.getWorkflowId());
+    }
+
+    public String encode() {
+        // A missing due date is written as "null" and sorts after every real one
+        String raw = priorityRank + "|" + dueDate + "|" + workflowId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static InboxCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            LocalDateTime dueDate = "null".equals(parts[1]) ? null : LocalDateTime.parse(parts[1]);
+            return new InboxCursor(Integer.parseInt(parts[0]), dueDate, UUID.fromString(parts[2]));
+        } catch (RuntimeException e) {
+            throw new WorkflowException("Invalid inbox cursor");
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.InboxEventDTO;
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes inbox deltas (ADDED, REMOVED, UPDATED) to approvers over Server-Sent Events as
+ * workflow transitions commit. Each approver and each role is a channel with a small replay
+ * buffer; event ids are {@code <epoch>-<sequence>} so a reconnect with Last-Event-ID gets
+ * exactly the missed events, or a {@code resync} event when they are no longer buffered.
+ * Only transitions committed by this instance are seen.
+ * <p>
+ * Every subscriber has its own bounded queue drained by a small pool, one drain at a time per
+ * subscriber, so a client with a full TCP window only delays itself. A subscriber whose queue
+ * overflows or whose write stalls past {@code send-timeout-ms} is closed and catches up through
+ * Last-Event-ID on reconnect.
+ */
+@Slf4j
+@Component
+public class InboxEventBroadcaster {
+
+    private static final String EVENT_INBOX = "inbox";
+    private static final String EVENT_READY = "ready";
+    private static final String EVENT_RESYNC = "resync";
+    private static final long NO_RESUME = -1;
+    private static final long UNKNOWN_RESUME = -2;
+    private static final int DRAIN_BATCH = 32;   // events per turn before yielding the thread
+
+    private record Buffered(long sequence, InboxEventDTO event) {}
+
+    private static final class Channel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final Deque<Buffered> buffer = new ArrayDeque<>();
+        long evictedUpTo;             // events up to this sequence can no longer be replayed
+        volatile long idleSince;
+
+        Channel(long createdAfter) {
+            this.evictedUpTo = createdAfter;
+            this.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    private final class Subscriber {
+        final Channel channel;
+        final SseEmitter emitter;
+        private final Deque<SseEmitter.SseEventBuilder> pending = new ArrayDeque<>(); // guarded by this
+        private boolean draining;                                                     // guarded by this
+        private boolean closed;                                                       // guarded by this
+        volatile long sendingSince;   // nanoTime of the write in progress, 0 when idle
+
+        Subscriber(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            boolean overflow = false;
+            boolean schedule = false;
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (pending.size() >= settings.getSubscriberQueueSize()) {
+                    overflow = true;
+                } else {
+                    pending.addLast(event);
+                    schedule = !draining;
+                    draining = true;
+                }
+            }
+            if (overflow) {
+                droppedEvents.increment();
+                close(new IOException("Inbox stream subscriber fell behind"));
+            } else if (schedule) {
+                scheduleDrain();
+            }
+        }
+
+        synchronized boolean isIdle() {
+            return pending.isEmpty() && !draining;
+        }
+
+        synchronized boolean isClosed() {
+            return closed;
+        }
+
+        private void scheduleDrain() {
+            if (!dispatch(this::drain)) {
+                // Left queued; the next event or heartbeat schedules the drain again
+                synchronized (this) {
+                    draining = false;
+                }
+            }
+        }
+
+        private void drain() {
+            for (int sent = 0; ; sent++) {
+                SseEmitter.SseEventBuilder next;
+                synchronized (this) {
+                    next = closed ? null : pending.peekFirst();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                    if (sent == DRAIN_BATCH) {
+                        break;
+                    }
+                    pending.removeFirst();
+                }
+                sendingSince = System.nanoTime();
+                try {
+                    emitter.send(next);
+                } catch (IOException | IllegalStateException e) {
+                    close(e);
+                    return;
+                } finally {
+                    sendingSince = 0;
+                }
+            }
+            scheduleDrain();
+        }
+
+        boolean isStalled(long nowNanos) {
+            long since = sendingSince;
+            return since != 0 && nowNanos - since > TimeUnit.MILLISECONDS.toNanos(settings.getSendTimeoutMs());
+        }
+
+        void close(Throwable cause) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pending.clear();
+            }
+            detach();
+            emitter.completeWithError(cause);
+        }
+
+        void detach() {
+            synchronized (this) {
+                closed = true;
+                pending.clear();
+            }
+            if (channel.subscribers.remove(this)) {
+                subscribers.decrementAndGet();
+                if (channel.subscribers.isEmpty()) {
+                    channel.idleSince = System.currentTimeMillis();
+                }
+            }
+        }
+    }
+
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final WorkflowProperties.InboxStream settings;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Counter droppedEvents;
+
+    public InboxEventBroadcaster(@Qualifier("inboxStreamExecutor") ThreadPoolTaskExecutor sendExecutor,
+                                 WorkflowProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.sendExecutor = sendExecutor;
+        this.settings = properties.getInboxStream();
+        Gauge.builder("workflow.inbox.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Open approver inbox event streams")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("workflow.inbox.stream.dropped")
+                .description("Inbox streams closed because their events could not be delivered in time")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID approverId, String approverRole, String lastEventId) {
+        if ((approverId == null) == (approverRole == null || approverRole.isBlank())) {
+            throw new WorkflowException("Subscribe with exactly one of approverId or approverRole");
+        }
+        if (subscribers.get() >= settings.getMaxSubscribers()) {
+            throw new WorkflowException("Inbox stream capacity reached, fall back to polling");
+        }
+
+        String key = approverId != null ? approverKey(approverId) : roleKey(approverRole);
+        SseEmitter emitter = new SseEmitter(settings.getEmitterTimeoutMs());
+        long resumeFrom = parseSequence(lastEventId);
+        Subscriber subscriber;
+        int replayed = 0;
+        synchronized (channels) {
+            Channel channel = channels.computeIfAbsent(key, k -> new Channel(sequence.get()));
+            subscriber = new Subscriber(channel, emitter);
+            // Queued before the subscriber becomes visible to publish(), so replay precedes live events
+            synchronized (channel) {
+                long current = sequence.get();
+                boolean resync = resumeFrom == UNKNOWN_RESUME || resumeFrom > current
+                        || (resumeFrom >= 0 && resumeFrom < channel.evictedUpTo);
+                if (resumeFrom == NO_RESUME) {
+                    subscriber.enqueue(SseEmitter.event().name(EVENT_READY).id(idOf(current)).data(key));
+                } else if (resync) {
+                    subscriber.enqueue(SseEmitter.event().name(EVENT_RESYNC).id(idOf(current)).data(key));
+                } else {
+                    for (Buffered buffered : channel.buffer) {
+                        if (buffered.sequence() > resumeFrom) {
+                            subscriber.enqueue(inboxEvent(buffered));
+                            replayed++;
+                        }
+                    }
+                }
+                // A replay larger than the subscriber queue has already closed it
+                if (!subscriber.isClosed()) {
+                    channel.subscribers.add(subscriber);
+                    subscribers.incrementAndGet();
+                }
+            }
+        }
+
+        emitter.onCompletion(subscriber::detach);
+        emitter.onTimeout(subscriber::detach);
+        emitter.onError(e -> subscriber.detach());
+        log.debug("🧭 Inbox stream opened for {} (resume from {}, {} replayed)", key, lastEventId, replayed);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransition(WorkflowTransitionEvent event) {
+        boolean wasPending = "PENDING".equals(event.previousStatus());
+        boolean isPending = "PENDING".equals(event.newStatus());
+        if (!wasPending && !isPending) {
+            return;
+        }
+        UUID previousApprover = wasPending ? event.previousApproverId() : null;
+        UUID newApprover = isPending ? event.newApproverId() : null;
+        String previousRole = wasPending ? event.previousApproverRole() : null;
+        String newRole = isPending ? event.newApproverRole() : null;
+
+        publishDelta(previousApprover == null ? null : approverKey(previousApprover),
+                newApprover == null ? null : approverKey(newApprover), event);
+        publishDelta(previousRole == null ? null : roleKey(previousRole),
+                newRole == null ? null : roleKey(newRole), event);
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.inbox-stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long idleCutoff = System.currentTimeMillis() - settings.getIdleChannelMinutes() * 60_000L;
+        synchronized (channels) {
+            channels.values().removeIf(channel -> channel.subscribers.isEmpty() && channel.idleSince < idleCutoff);
+        }
+
+        long now = System.nanoTime();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                droppedEvents.increment();
+                subscriber.close(new IOException("Inbox stream write timed out"));
+            } else if (subscriber.isIdle()) {
+                subscriber.enqueue(SseEmitter.event().comment("keepalive"));
+            }
+        }));
+    }
+
+    private void publishDelta(String previousKey, String newKey, WorkflowTransitionEvent event) {
+        if (previousKey != null && previousKey.equals(newKey)) {
+            publish(previousKey, toDto("UPDATED", event));
+            return;
+        }
+        if (previousKey != null) {
+            publish(previousKey, toDto("REMOVED", event));
+        }
+        if (newKey != null) {
+            publish(newKey, toDto("ADDED", event));
+        }
+    }
+
+    private void publish(String key, InboxEventDTO event) {
+        Channel channel = channels.get(key);
+        if (channel == null) {
+            return;
+        }
+        // Enqueueing under the channel monitor keeps every subscriber's queue in sequence order
+        synchronized (channel) {
+            Buffered buffered = new Buffered(sequence.incrementAndGet(), event);
+            channel.buffer.addLast(buffered);
+            while (channel.buffer.size() > settings.getReplayBufferSize()) {
+                channel.evictedUpTo = channel.buffer.removeFirst().sequence();
+            }
+            channel.subscribers.forEach(subscriber -> subscriber.enqueue(inboxEvent(buffered)));
+        }
+    }
+
+    private boolean dispatch(Runnable task) {
+        try {
+            sendExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private SseEmitter.SseEventBuilder inboxEvent(Buffered buffered) {
+        return SseEmitter.event().name(EVENT_INBOX).id(idOf(buffered.sequence())).data(buffered.event());
+    }
+
+    private InboxEventDTO toDto(String type, WorkflowTransitionEvent event) {
+        return InboxEventDTO.builder()
+                .type(type)
+                .workflowId(event.workflowId())
+                .travelRequestId(event.travelRequestId())
+                .workflowType(event.workflowType())
+                .status(event.newStatus())
+                .currentStep(event.newStep())
+                .currentApproverRole(event.newApproverRole())
+                .currentApproverId(event.newApproverId())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String idOf(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    // Ids from an earlier process or garbage cannot be resumed and force a resync
+    private long parseSequence(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return NO_RESUME;
+        }
+        int dash = lastEventId.lastIndexOf('-');
+        if (dash <= 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+            return UNKNOWN_RESUME;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return UNKNOWN_RESUME;
+        }
+    }
+
+    private static String approverKey(UUID approverId) {
+        return "approver:" + approverId;
+    }
+
+    private static String roleKey(String role) {
+        return "role:" + role.trim().toUpperCase();
+    }
+}
@@ -0,0 +1,48 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fills priority_rank on workflows created before the keyset inbox existed and creates the inbox
+ * indexes, which sort on an expression (NULL due dates last) that JPA index metadata cannot express.
+ * due_date itself is never touched: it drives the SLA engine. A no-op once every row has a rank.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InboxSortKeyBackfill {
+
+    private final ApprovalWorkflowRepository workflowRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int updated = workflowRepository.backfillInboxSortKeys();
+            if (updated > 0) {
+                log.info("✅ Backfilled inbox priority rank on {} workflow(s)", updated);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Inbox sort key backfill failed: {}", e.getMessage());
+        }
+
+        try {
+            jdbcTemplate.execute("""
+                    CREATE INDEX IF NOT EXISTS idx_workflow_inbox_approver_key ON approval_workflows
+                    (current_approver_id, status, priority_rank, (COALESCE(due_date, 'infinity'::timestamp)), workflow_id)""");
+            jdbcTemplate.execute("""
+                    CREATE INDEX IF NOT EXISTS idx_workflow_inbox_role_key ON approval_workflows
+                    (current_approver_role, status, priority_rank, (COALESCE(due_date, 'infinity'::timestamp)), workflow_id)""");
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to create inbox indexes: {}", e.getMessage());
+        }
+    }
+}
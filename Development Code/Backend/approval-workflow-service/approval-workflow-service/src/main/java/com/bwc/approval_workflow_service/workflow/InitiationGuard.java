@@ -0,0 +1,79 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.entity.IdempotencyKey;
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+import com.bwc.approval_workflow_service.repository.IdempotencyKeyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serializes workflow initiation per (travel request, workflow type) and remembers
+ * caller-supplied Idempotency-Key headers. The natural key is claimed inside the
+ * initiating transaction, so a concurrent retry waits for it and then finds the workflow
+ * instead of inserting a second one.
+ */
+@Slf4j
+@Component
+public class InitiationGuard {
+
+    private static final String OPERATION = "INITIATE_WORKFLOW";
+    private static final int MAX_CLIENT_KEY_LENGTH = 150;
+
+    private final IdempotencyKeyRepository keyRepository;
+    private final WorkflowProperties.Initiation settings;
+
+    public InitiationGuard(IdempotencyKeyRepository keyRepository, WorkflowProperties properties) {
+        this.keyRepository = keyRepository;
+        this.settings = properties.getInitiation();
+    }
+
+    public Optional<UUID> resolve(String clientKey) {
+        return keyRepository.findById(clientKeyOf(clientKey)).map(IdempotencyKey::getResourceId);
+    }
+
+    /**
+     * Must run in the initiating transaction. {@code false} means another caller holds or held the claim.
+     */
+    public boolean claim(UUID travelRequestId, String workflowType) {
+        return !keyRepository.insertIfAbsent(naturalKeyOf(travelRequestId, workflowType), OPERATION,
+                null, LocalDateTime.now()).isEmpty();
+    }
+
+    public void bind(UUID workflowId, UUID travelRequestId, String workflowType, String clientKey) {
+        keyRepository.bindResource(naturalKeyOf(travelRequestId, workflowType), workflowId);
+        remember(workflowId, clientKey);
+    }
+
+    public void remember(UUID workflowId, String clientKey) {
+        if (clientKey != null) {
+            keyRepository.insertIfAbsent(clientKeyOf(clientKey), OPERATION, workflowId, LocalDateTime.now());
+        }
+    }
+
+    @Scheduled(cron = "${workflow.initiation.idempotency-purge-cron:0 45 * * * *}")
+    public void purgeExpired() {
+        int purged = keyRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(settings.getIdempotencyKeyRetentionHours()));
+        if (purged > 0) {
+            log.info("🧹 Purged {} expired idempotency key(s)", purged);
+        }
+    }
+
+    private static String naturalKeyOf(UUID travelRequestId, String workflowType) {
+        return "initiate:" + travelRequestId + ":" + workflowType;
+    }
+
+    private static String clientKeyOf(String clientKey) {
+        if (clientKey.length() > MAX_CLIENT_KEY_LENGTH) {
+            throw new WorkflowException("Idempotency-Key must be at most " + MAX_CLIENT_KEY_LENGTH + " characters");
+        }
+        return "client:" + clientKey;
+    }
+}
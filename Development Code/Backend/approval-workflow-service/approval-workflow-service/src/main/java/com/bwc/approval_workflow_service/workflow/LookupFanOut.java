@@ -0,0 +1,111 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs independent lookups concurrently on a bounded pool under a shared deadline.
+ * Lookups still queued when the deadline passes are skipped instead of started,
+ * and a saturated pool degrades to running the lookup on the caller thread.
+ */
+@Slf4j
+@Component
+public class LookupFanOut {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Counter timeouts;
+    private final Counter callerRuns;
+
+    public LookupFanOut(@Qualifier("lookupFanOutExecutor") ThreadPoolTaskExecutor executor,
+                        MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.timeouts = Counter.builder("workflow.lookup.timeouts").register(meterRegistry);
+        this.callerRuns = Counter.builder("workflow.lookup.caller.runs").register(meterRegistry);
+        Gauge.builder("workflow.lookup.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("workflow.lookup.executor.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public long deadlineAfter(long timeoutMs) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    }
+
+    public <T> CompletableFuture<T> submit(String lookup, long deadlineNanos, Supplier<T> task) {
+        Timer timer = Timer.builder("workflow.lookup.duration").tag("lookup", lookup).register(meterRegistry);
+        Supplier<T> timed = () -> {
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                throw new CancellationException(lookup + " lookup skipped, deadline already passed");
+            }
+            return timer.record(task);
+        };
+        try {
+            return CompletableFuture.supplyAsync(timed, executor);
+        } catch (RejectedExecutionException e) {
+            callerRuns.increment();
+            log.debug("Lookup pool saturated, running {} on caller thread", lookup);
+            try {
+                return CompletableFuture.completedFuture(timed.get());
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+    }
+
+    /**
+     * Result of {@code future}, waiting no longer than the deadline.
+     * Timeouts and failures surface as {@link WorkflowException}; a {@link RuntimeException}
+     * thrown by the lookup itself is rethrown unchanged.
+     */
+    public <T> T await(String lookup, CompletableFuture<T> future, long deadlineNanos) {
+        long remaining = deadlineNanos - System.nanoTime();
+        try {
+            return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            future.cancel(true);
+            timeouts.increment();
+            throw new WorkflowException("Timed out waiting for " + lookup + " lookup");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new WorkflowException("Interrupted waiting for " + lookup + " lookup", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CancellationException) {
+                timeouts.increment();
+                throw new WorkflowException("Timed out waiting for " + lookup + " lookup");
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new WorkflowException(lookup + " lookup failed", e.getCause());
+        }
+    }
+
+    public <T> T awaitOrElse(String lookup, CompletableFuture<T> future, long deadlineNanos, Supplier<T> fallback) {
+        try {
+            return await(lookup, future, deadlineNanos);
+        } catch (WorkflowException e) {
+            log.warn("⚠️ {}, using fallback", e.getMessage());
+            return fallback.get();
+        }
+    }
+}
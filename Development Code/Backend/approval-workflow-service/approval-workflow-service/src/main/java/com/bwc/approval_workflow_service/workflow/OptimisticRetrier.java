@@ -0,0 +1,112 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.HotWorkflowDTO;
+import com.bwc.approval_workflow_service.exception.WorkflowConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a workflow transition in its own transaction and replays it when the
+ * commit loses an optimistic-lock race. Each attempt reloads the row, so the
+ * transition re-validates against the winner's state and fails fast (with a
+ * {@link com.bwc.approval_workflow_service.exception.WorkflowException}) once it no longer applies.
+ * Called inside an existing transaction it runs once, since the caller owns the commit.
+ */
+@Slf4j
+@Component
+public class OptimisticRetrier {
+
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowProperties.OptimisticRetry settings;
+    private final MeterRegistry meterRegistry;
+    // Recent conflict counts per workflow; bounded so a burst cannot grow it without limit
+    private final Cache<UUID, AtomicLong> conflictsByWorkflow;
+
+    public OptimisticRetrier(TransactionTemplate transactionTemplate,
+                             WorkflowProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.transactionTemplate = transactionTemplate;
+        this.settings = properties.getOptimisticRetry();
+        this.meterRegistry = meterRegistry;
+        this.conflictsByWorkflow = Caffeine.newBuilder()
+                .maximumSize(settings.getHotTrackingSize())
+                .expireAfterAccess(Duration.ofMinutes(settings.getHotWindowMinutes()))
+                .build();
+    }
+
+    public <T> T execute(String operation, UUID workflowId, Supplier<T> transition) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transition.get();
+        }
+
+        DistributionSummary attemptsSummary = DistributionSummary.builder("workflow.optimistic.attempts")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        int attempt = 1;
+        while (true) {
+            try {
+                T result = transactionTemplate.execute(status -> transition.get());
+                attemptsSummary.record(attempt);
+                return result;
+            } catch (OptimisticLockingFailureException e) {
+                counter("workflow.optimistic.conflicts", operation).increment();
+                conflictsByWorkflow.get(workflowId, id -> new AtomicLong()).incrementAndGet();
+
+                if (attempt >= settings.getMaxAttempts()) {
+                    attemptsSummary.record(attempt);
+                    counter("workflow.optimistic.exhausted", operation).increment();
+                    log.warn("⚠️ {} on workflow {} still conflicting after {} attempts", operation, workflowId, attempt);
+                    throw new WorkflowConflictException(
+                            "Workflow " + workflowId + " is being updated concurrently, please retry", e);
+                }
+
+                counter("workflow.optimistic.retries", operation).increment();
+                log.debug("Optimistic lock conflict on workflow {} ({}), attempt {}", workflowId, operation, attempt);
+                backoff(attempt);
+                attempt++;
+            }
+        }
+    }
+
+    public List<HotWorkflowDTO> hotWorkflows(int limit) {
+        return conflictsByWorkflow.asMap().entrySet().stream()
+                .map(e -> HotWorkflowDTO.builder().workflowId(e.getKey()).conflicts(e.getValue().get()).build())
+                .sorted(Comparator.comparingLong(HotWorkflowDTO::getConflicts).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(settings.getInitialBackoffMs() << Math.min(attempt - 1, 20), settings.getMaxBackoffMs());
+        try {
+            // Full jitter keeps colliding writers from retrying in lockstep
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WorkflowConflictException("Interrupted while retrying workflow update");
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+
+/**
+ * Opaque keyset position in workflow search results, which run newest first by (createdAt, workflowId).
+ */
+public record SearchCursor(LocalDateTime createdAt, UUID workflowId) {
+
+    public static SearchCursor after(ApprovalWorkflow workflow) {
+        return new SearchCursor(workflow.getCreatedAt(), workflow.getWorkflowId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + workflowId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            return new SearchCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new WorkflowException("Invalid search cursor");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository.SlaDeadline;
+import com.bwc.approval_workflow_service.service.ApprovalWorkflowService;
+import com.bwc.approval_workflow_service.util.HashedTimerWheel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives due dates off a hashed timer wheel. A periodic refill range-scans only the
+ * due_date window up to the horizon; ticks hand expired workflows to the service in
+ * batches, where each one is re-checked before acting.
+ */
+@Slf4j
+@Component
+public class SlaEngine {
+
+    private final ApprovalWorkflowRepository workflowRepository;
+    private final ApprovalWorkflowService workflowService;
+    private final WorkflowProperties.Sla settings;
+    private final HashedTimerWheel<UUID> wheel;
+
+    // workflowId -> deadline currently armed; stale wheel entries are ignored on expiry
+    private final Map<UUID, Long> armed = new ConcurrentHashMap<>();
+
+    private final Timer fireLag;
+    private final Timer batchDuration;
+    private final Map<SlaOutcome, Counter> outcomes = new EnumMap<>(SlaOutcome.class);
+    private final Counter refillLoaded;
+    private final Counter batchFailures;
+
+    public SlaEngine(ApprovalWorkflowRepository workflowRepository,
+                     ApprovalWorkflowService workflowService,
+                     WorkflowProperties properties,
+                     MeterRegistry meterRegistry) {
+        this.workflowRepository = workflowRepository;
+        this.workflowService = workflowService;
+        this.settings = properties.getSla();
+        this.wheel = new HashedTimerWheel<>(settings.getTickMs(), settings.getWheelSize(), System.currentTimeMillis());
+
+        this.fireLag = Timer.builder("workflow.sla.fire.lag")
+                .description("Delay between a workflow deadline and the SLA engine acting on it")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchDuration = Timer.builder("workflow.sla.batch.duration").register(meterRegistry);
+        for (SlaOutcome outcome : SlaOutcome.values()) {
+            outcomes.put(outcome, Counter.builder("workflow.sla.processed")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.refillLoaded = Counter.builder("workflow.sla.refill.loaded").register(meterRegistry);
+        this.batchFailures = Counter.builder("workflow.sla.batch.failures").register(meterRegistry);
+        Gauge.builder("workflow.sla.timers.armed", armed, Map::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!settings.isEnabled()) {
+            log.info("SLA engine disabled");
+            return;
+        }
+        try {
+            workflowRepository.backfillOverdueFlag();
+            refill();
+        } catch (Exception e) {
+            log.warn("⚠️ Initial SLA refill failed, next scheduled refill will retry: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.sla.refill-interval-ms:60000}",
+               initialDelayString = "${workflow.sla.refill-interval-ms:60000}")
+    public void refill() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        LocalDateTime horizon = LocalDateTime.now().plusMinutes(settings.getHorizonMinutes());
+        int loaded = 0;
+        for (SlaDeadline due : workflowRepository.findDueBefore(horizon, settings.getRefillLimit())) {
+            loaded += arm(due.getWorkflowId(), due.getDeadline());
+        }
+        int escalateAfterHours = settings.getEscalateAfterHours();
+        if (escalateAfterHours > 0) {
+            for (SlaDeadline overdue : workflowRepository.findOverdueSince(
+                    horizon.minusHours(escalateAfterHours), settings.getRefillLimit())) {
+                loaded += arm(overdue.getWorkflowId(), overdue.getDeadline().plusHours(escalateAfterHours));
+            }
+        }
+        refillLoaded.increment(loaded);
+        if (loaded > 0) {
+            log.debug("SLA refill armed {} timer(s), {} outstanding", loaded, armed.size());
+        }
+    }
+
+    @Scheduled(fixedRateString = "${workflow.sla.tick-ms:1000}")
+    public void tick() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<UUID> due = new ArrayList<>();
+        for (HashedTimerWheel.Expired<UUID> expired : wheel.advance(now)) {
+            if (armed.remove(expired.payload(), expired.deadlineMs())) {
+                due.add(expired.payload());
+                fireLag.record(Math.max(0, now - expired.deadlineMs()), TimeUnit.MILLISECONDS);
+            }
+        }
+        for (int from = 0; from < due.size(); from += settings.getBatchSize()) {
+            process(due.subList(from, Math.min(from + settings.getBatchSize(), due.size())));
+        }
+    }
+
+    private int arm(UUID workflowId, LocalDateTime deadline) {
+        long deadlineMs = deadline.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Long previous = armed.put(workflowId, deadlineMs);
+        if (previous != null && previous == deadlineMs) {
+            return 0;
+        }
+        wheel.schedule(workflowId, deadlineMs);
+        return 1;
+    }
+
+    private void process(List<UUID> batch) {
+        try {
+            record(batchDuration.record(() -> workflowService.processSlaTimeouts(batch)));
+        } catch (Exception e) {
+            // Isolate the failing workflow so the rest of the batch still gets handled
+            batchFailures.increment();
+            log.warn("⚠️ SLA batch of {} failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (UUID workflowId : batch) {
+                try {
+                    record(workflowService.processSlaTimeouts(List.of(workflowId)));
+                } catch (Exception itemError) {
+                    log.error("❌ SLA processing failed for workflow {}: {}", workflowId, itemError.getMessage());
+                }
+            }
+        }
+    }
+
+    private void record(Map<UUID, SlaOutcome> results) {
+        if (results == null) {
+            return;
+        }
+        results.values().forEach(outcome -> outcomes.get(outcome).increment());
+        long acted = results.values().stream().filter(o -> o != SlaOutcome.SKIPPED).count();
+        if (acted > 0) {
+            log.info("🧭 SLA engine handled {} workflow(s): {}", acted, results);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.bwc.approval_workflow_service.workflow;
+
+/**
+ * What the SLA engine did with a workflow whose timer fired.
+ */
+public enum SlaOutcome {
+    AUTO_APPROVED,
+    MARKED_OVERDUE,
+    ESCALATED,
+    SKIPPED        // step moved on, deadline changed, or workflow no longer pending
+}
@@ -0,0 +1,173 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.ApprovalWorkflowDTO;
+import com.bwc.approval_workflow_service.entity.ApprovalWorkflow;
+import com.bwc.approval_workflow_service.entity.ArchivedWorkflow;
+import com.bwc.approval_workflow_service.entity.WorkflowBooking;
+import com.bwc.approval_workflow_service.mapper.ApprovalWorkflowMapper;
+import com.bwc.approval_workflow_service.repository.ApprovalWorkflowRepository;
+import com.bwc.approval_workflow_service.repository.ArchivedWorkflowRepository;
+import com.bwc.approval_workflow_service.repository.WorkflowBookingRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves finished workflows out of approval_workflows once they are older than
+ * {@code workflow.workflow-archive.completed-age-days}, so the inbox, SLA and count
+ * queries only scan live rows. Bookings move with their workflow. Single-workflow and
+ * booking reads fall through to the archive.
+ */
+@Slf4j
+@Component
+public class WorkflowArchiver {
+
+    /**
+     * Bookings of an archived workflow, with the workflow fields the booking reads need.
+     */
+    public record ArchivedBookings(UUID travelRequestId, String status, Double totalBookingAmount,
+                                   String bookingNotes, List<WorkflowBooking> bookings) {}
+
+    // JSON shape of the bookings column
+    record StoredBookings(Double totalBookingAmount, String bookingNotes, List<WorkflowBooking> bookings) {}
+
+    private final ApprovalWorkflowRepository workflowRepository;
+    private final ArchivedWorkflowRepository archiveRepository;
+    private final WorkflowBookingRepository bookingRepository;
+    private final ApprovalWorkflowMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final WorkflowProperties.WorkflowArchive settings;
+
+    public WorkflowArchiver(ApprovalWorkflowRepository workflowRepository,
+                            ArchivedWorkflowRepository archiveRepository,
+                            WorkflowBookingRepository bookingRepository,
+                            ApprovalWorkflowMapper mapper,
+                            ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate,
+                            WorkflowProperties properties) {
+        this.workflowRepository = workflowRepository;
+        this.archiveRepository = archiveRepository;
+        this.bookingRepository = bookingRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.settings = properties.getWorkflowArchive();
+    }
+
+    @Scheduled(cron = "${workflow.workflow-archive.cron:0 0 3 * * *}")
+    public void archiveCompleted() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(settings.getCompletedAgeDays());
+        int total = 0;
+        try {
+            for (int i = 0; i < settings.getMaxBatchesPerRun(); i++) {
+                Integer moved = transactionTemplate.execute(status -> moveBatch(cutoff));
+                total += moved != null ? moved : 0;
+                if (moved == null || moved < settings.getBatchSize()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ Workflow archive run stopped after {} workflow(s): {}", total, e.getMessage(), e);
+        }
+        if (total > 0) {
+            log.info("🧹 Archived {} completed workflow(s) finished before {}", total, cutoff);
+        }
+    }
+
+    public Optional<ApprovalWorkflowDTO> findById(UUID workflowId) {
+        return archiveRepository.findById(workflowId).map(this::toDto);
+    }
+
+    public Optional<ApprovalWorkflowDTO> findByTravelRequestId(UUID travelRequestId) {
+        return archiveRepository.findFirstByTravelRequestIdOrderByCreatedAtDesc(travelRequestId).map(this::toDto);
+    }
+
+    public Optional<ApprovalWorkflowDTO> findByTravelRequestIdAndWorkflowType(UUID travelRequestId, String workflowType) {
+        return archiveRepository.findByTravelRequestIdAndWorkflowType(travelRequestId, workflowType).map(this::toDto);
+    }
+
+    public Optional<ArchivedBookings> findBookings(UUID workflowId) {
+        return archiveRepository.findById(workflowId).map(archived -> {
+            StoredBookings stored = archived.getBookings() != null
+                    ? fromJson(archived.getWorkflowId(), archived.getBookings(), StoredBookings.class)
+                    : new StoredBookings(null, null, List.of());
+            return new ArchivedBookings(archived.getTravelRequestId(), archived.getStatus(),
+                    stored.totalBookingAmount(), stored.bookingNotes(),
+                    stored.bookings() != null ? stored.bookings() : List.of());
+        });
+    }
+
+    // Archived rows never change, so the archive time is a stable version tag
+    public Optional<LocalDateTime> archivedAt(UUID workflowId) {
+        return archiveRepository.findArchivedAtById(workflowId);
+    }
+
+    public Optional<LocalDateTime> latestArchivedAt(UUID travelRequestId) {
+        return Optional.ofNullable(archiveRepository.findLatestArchivedAtByTravelRequestId(travelRequestId));
+    }
+
+    private int moveBatch(LocalDateTime cutoff) {
+        // Rows stay locked until commit, so a concurrent transition cannot slip in between copy and delete
+        List<ApprovalWorkflow> batch = workflowRepository.lockArchivable(cutoff, settings.getBatchSize());
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<UUID> ids = batch.stream().map(ApprovalWorkflow::getWorkflowId).toList();
+        Map<UUID, List<WorkflowBooking>> bookings = bookingRepository.findByWorkflowIdInOrderByCreatedAtAsc(ids).stream()
+                .collect(Collectors.groupingBy(WorkflowBooking::getWorkflowId));
+
+        LocalDateTime now = LocalDateTime.now();
+        archiveRepository.saveAll(batch.stream().map(workflow -> ArchivedWorkflow.builder()
+                .workflowId(workflow.getWorkflowId())
+                .travelRequestId(workflow.getTravelRequestId())
+                .workflowType(workflow.getWorkflowType())
+                .status(workflow.getStatus())
+                .createdAt(workflow.getCreatedAt())
+                .completedAt(workflow.getCompletedAt())
+                .archivedAt(now)
+                .payload(toJson(workflow.getWorkflowId(), mapper.toDto(workflow)))
+                .bookings(toJson(workflow.getWorkflowId(), new StoredBookings(workflow.getTotalBookingAmount(),
+                        workflow.getBookingNotes(), bookings.getOrDefault(workflow.getWorkflowId(), List.of()))))
+                .build()).toList());
+        bookingRepository.deleteByWorkflowIdIn(ids);
+        workflowRepository.deleteAllByIdInBatch(ids);
+        return batch.size();
+    }
+
+    private String toJson(UUID workflowId, Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize workflow " + workflowId, e);
+        }
+    }
+
+    private ApprovalWorkflowDTO toDto(ArchivedWorkflow archived) {
+        return fromJson(archived.getWorkflowId(), archived.getPayload(), ApprovalWorkflowDTO.class);
+    }
+
+    private <T> T fromJson(UUID workflowId, String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt archived workflow " + workflowId, e);
+        }
+    }
+}
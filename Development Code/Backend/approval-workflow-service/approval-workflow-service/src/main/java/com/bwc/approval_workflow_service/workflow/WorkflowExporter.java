@@ -0,0 +1,400 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+import com.bwc.approval_workflow_service.dto.ApprovalActionDTO;
+import com.bwc.approval_workflow_service.entity.ActionArchive;
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams workflows and approval actions straight from a forward-only JDBC cursor into CSV or NDJSON.
+ * Rows are written as they are fetched, so memory stays at one fetch batch regardless of export size.
+ * PostgreSQL only honours the fetch size inside a transaction, hence the read-only transaction around
+ * each query. Each running export pins a pooled connection, so at most
+ * {@code workflow.export.max-concurrent} run at once.
+ * <p>
+ * Exports cover archived history too: workflows moved to approval_workflows_archive are unpacked from
+ * their stored DTO, and actions from partitions moved to files are read back from those files before the
+ * live rows. Every row carries an {@code archived} flag.
+ */
+@Slf4j
+@Component
+public class WorkflowExporter {
+
+    public enum Format {
+        CSV("text/csv"), NDJSON("application/x-ndjson");
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new WorkflowException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private static final String WORKFLOW_COLUMNS = """
+            workflow_id, travel_request_id, workflow_type, status, current_step, current_approver_role,
+            current_approver_id, previous_step, next_step, priority, estimated_cost, actual_cost,
+            total_booking_amount, booking_count, is_overpriced, overpriced_reason, due_date,
+            is_overdue, overdue_since, created_at, updated_at, completed_at""";
+
+    // The same columns unpacked from an archived row's DTO payload and bookings JSON; overdue state is not kept
+    private static final String ARCHIVED_WORKFLOW_COLUMNS = """
+            a.workflow_id, a.travel_request_id, a.workflow_type, a.status, j.p ->> 'currentStep',
+            j.p ->> 'currentApproverRole', CAST(j.p ->> 'currentApproverId' AS uuid), j.p ->> 'previousStep',
+            j.p ->> 'nextStep', j.p ->> 'priority', CAST(j.p ->> 'estimatedCost' AS double precision),
+            CAST(j.p ->> 'actualCost' AS double precision), CAST(j.b ->> 'totalBookingAmount' AS double precision),
+            jsonb_array_length(COALESCE(j.b -> 'bookings', '[]'::jsonb)), CAST(j.p ->> 'isOverpriced' AS boolean),
+            j.p ->> 'overpricedReason', CAST(j.p ->> 'dueDate' AS timestamp), CAST(NULL AS boolean),
+            CAST(NULL AS timestamp), a.created_at, CAST(j.p ->> 'updatedAt' AS timestamp), a.completed_at""";
+
+    private static final String ACTION_COLUMNS = """
+            action_id, workflow_id, travel_request_id, approver_role, approver_id, approver_name,
+            action, step, comments, escalation_reason, is_escalated, amount_approved,
+            reimbursement_amount, processing_time_seconds, action_taken_at, created_at""";
+
+    private static final String[] WORKFLOW_LABELS = labels(WORKFLOW_COLUMNS);
+    private static final String[] ACTION_LABELS = labels(ACTION_COLUMNS);
+
+    /**
+     * Hands exported rows, in label order, to the writer.
+     */
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(Object[] values);
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void stream(RowSink sink);
+    }
+
+    // Writing to the client failed, as opposed to reading the export's own data
+    private static final class ClientAbortedException extends RuntimeException {
+        ClientAbortedException(IOException cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    private final ActionArchiveReader archiveReader;
+    private final JdbcTemplate cursor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final WorkflowProperties.Export settings;
+    private final Semaphore running;
+
+    public WorkflowExporter(DataSource dataSource,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            ActionArchiveReader archiveReader,
+                            WorkflowProperties properties) {
+        this.settings = properties.getExport();
+        this.archiveReader = archiveReader;
+        this.cursor = new JdbcTemplate(dataSource);
+        this.cursor.setFetchSize(settings.getFetchSize());
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.running = new Semaphore(settings.getMaxConcurrent());
+    }
+
+    /**
+     * Reserves an export slot; the export started with it gives the slot back when it ends.
+     */
+    public boolean tryStart() {
+        return running.tryAcquire();
+    }
+
+    public long exportWorkflows(OutputStream out, Format format, LocalDateTime from, LocalDateTime to,
+                                String status, String workflowType) {
+        StringBuilder sql = new StringBuilder("SELECT * FROM (SELECT ").append(WORKFLOW_COLUMNS)
+                .append(", false AS archived FROM approval_workflows UNION ALL SELECT ").append(ARCHIVED_WORKFLOW_COLUMNS)
+                .append(", true FROM approval_workflows_archive a")
+                .append(" CROSS JOIN LATERAL (SELECT CAST(a.payload AS jsonb) AS p, CAST(a.bookings AS jsonb) AS b) j")
+                .append(") w WHERE 1=1");
+        List<Object> args = new ArrayList<>();
+        appendRange(sql, args, from, to);
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND status = ?");
+            args.add(status.trim().toUpperCase(Locale.ROOT));
+        }
+        if (workflowType != null && !workflowType.isBlank()) {
+            sql.append(" AND workflow_type = ?");
+            args.add(workflowType.trim().toUpperCase(Locale.ROOT));
+        }
+        sql.append(" ORDER BY created_at, workflow_id");
+        return export("workflows", out, format, WORKFLOW_LABELS, List.of(query(sql.toString(), args)));
+    }
+
+    public long exportActions(OutputStream out, Format format, LocalDateTime from, LocalDateTime to,
+                              UUID travelRequestId) {
+        List<RowSource> sources = new ArrayList<>();
+        try {
+            // Archived months all predate the live partitions, so files first keeps created_at order
+            for (ActionArchive archive : archiveReader.findCovering(from, to, travelRequestId)) {
+                sources.add(sink -> archiveReader.forEach(archive, action -> {
+                    if (matches(action, from, to, travelRequestId)) {
+                        sink.accept(archivedActionRow(action));
+                    }
+                }));
+            }
+        } catch (RuntimeException e) {
+            running.release();
+            throw e;
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(ACTION_COLUMNS).append(", false AS archived FROM approval_actions WHERE 1=1");
+        List<Object> args = new ArrayList<>();
+        appendRange(sql, args, from, to);
+        if (travelRequestId != null) {
+            sql.append(" AND travel_request_id = ?");
+            args.add(travelRequestId);
+        }
+        sql.append(" ORDER BY created_at, action_id");
+        sources.add(query(sql.toString(), args));
+        return export("actions", out, format, ACTION_LABELS, sources);
+    }
+
+    private long export(String dataset, OutputStream out, Format format, String[] labels, List<RowSource> sources) {
+        long started = System.currentTimeMillis();
+        RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+        long[] rows = { 0 };
+        RowSink sink = values -> {
+            try {
+                writer.write(values);
+                if (++rows[0] % settings.getFlushEveryRows() == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new ClientAbortedException(e);
+            }
+        };
+        try {
+            writer.start(labels);
+            sources.forEach(source -> source.stream(sink));
+            writer.finish();
+        } catch (IOException | ClientAbortedException e) {
+            // Usually the client went away; abandoning the cursor ends the query
+            log.warn("⚠️ {} export aborted after {} row(s): {}", dataset, rows[0], e.getMessage());
+            return rows[0];
+        } catch (RuntimeException e) {
+            // Unreadable data: the response is cut short rather than completed with rows missing
+            log.error("❌ {} export failed after {} row(s): {}", dataset, rows[0], e.getMessage(), e);
+            throw e;
+        } finally {
+            running.release();
+        }
+        log.info("✅ Exported {} {} row(s) as {} in {} ms", rows[0], dataset, format, System.currentTimeMillis() - started);
+        return rows[0];
+    }
+
+    private RowSource query(String sql, List<Object> args) {
+        return sink -> readOnlyTransaction.executeWithoutResult(status -> cursor.query(sql, (ResultSet rs) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            int columns = meta.getColumnCount();
+            while (rs.next()) {
+                Object[] values = new Object[columns];
+                for (int i = 0; i < columns; i++) {
+                    values[i] = readValue(rs, meta, i + 1);
+                }
+                sink.accept(values);
+            }
+            return null;
+        }, args.toArray()));
+    }
+
+    private static boolean matches(ApprovalActionDTO action, LocalDateTime from, LocalDateTime to, UUID travelRequestId) {
+        LocalDateTime createdAt = action.getCreatedAt();
+        return (from == null || (createdAt != null && !createdAt.isBefore(from)))
+                && (to == null || (createdAt != null && createdAt.isBefore(to)))
+                && (travelRequestId == null || travelRequestId.equals(action.getTravelRequestId()));
+    }
+
+    private static Object[] archivedActionRow(ApprovalActionDTO action) {
+        return new Object[] {
+                action.getActionId(), action.getWorkflowId(), action.getTravelRequestId(), action.getApproverRole(),
+                action.getApproverId(), action.getApproverName(), action.getAction(), action.getStep(),
+                action.getComments(), action.getEscalationReason(), action.getIsEscalated(), action.getAmountApproved(),
+                action.getReimbursementAmount(), action.getProcessingTimeSeconds(), action.getActionTakenAt(),
+                action.getCreatedAt(), true };
+    }
+
+    private static String[] labels(String columns) {
+        return Stream.concat(Stream.of(columns.split(",")).map(String::trim), Stream.of("archived"))
+                .toArray(String[]::new);
+    }
+
+    private static void appendRange(StringBuilder sql, List<Object> args, LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append(" AND created_at < ?");
+            args.add(to);
+        }
+    }
+
+    private static Object readValue(ResultSet rs, ResultSetMetaData meta, int column) throws SQLException {
+        return switch (meta.getColumnType(column)) {
+            case Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE -> rs.getObject(column, LocalDateTime.class);
+            default -> rs.getObject(column);
+        };
+    }
+
+    private interface RowWriter {
+        void start(String[] labels) throws IOException;
+
+        void write(Object[] values) throws IOException;
+
+        void flush() throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer out;
+
+        CsvRowWriter(OutputStream out) {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void start(String[] labels) throws IOException {
+            out.write(String.join(",", labels));
+            out.write("\r\n");
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) out.write(',');
+                Object value = values[i];
+                if (value instanceof String text) {
+                    out.write(escape(neutralizeFormula(text)));
+                } else if (value != null) {
+                    out.write(escape(value.toString()));
+                }
+            }
+            out.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+
+        // Spreadsheets evaluate free text starting with these as a formula
+        private static String neutralizeFormula(String value) {
+            if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+                return "'" + value;
+            }
+            return value;
+        }
+
+        private static String escape(String value) {
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+
+        private final OutputStream out;
+        private JsonGenerator json;
+        private String[] labels;
+
+        NdjsonRowWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void start(String[] labels) throws IOException {
+            this.labels = labels;
+            this.json = objectMapper.getFactory().createGenerator(out);
+            json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            json.writeStartObject();
+            for (int i = 0; i < labels.length; i++) {
+                Object value = values[i];
+                json.writeFieldName(labels[i]);
+                if (value == null) {
+                    json.writeNull();
+                } else if (value instanceof Number number) {
+                    json.writeNumber(number.toString());
+                } else if (value instanceof Boolean bool) {
+                    json.writeBoolean(bool);
+                } else {
+                    json.writeString(value.toString());
+                }
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            json.flush();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (json != null) {
+                json.flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bwc.approval_workflow_service.workflow;
+
+/**
+ * Immutable view of one active {@code WorkflowConfiguration} row, with its
+ * approve transitions resolved at compile time.
+ *
+ * @param approveTarget          step entered on APPROVE, or {@code null} when approval completes the workflow
+ * @param overpricedApproveTarget step entered on APPROVE when the workflow is flagged overpriced
+ * @param nextStepName           sequential successor shown as {@code nextStep}, or {@code "COMPLETED"}
+ */
+public record WorkflowStep(
+    String stepName,
+    String approverRole,
+    int index,
+    Integer timeLimitHours,
+    boolean autoApproveAfterTimeout,
+    String nextStepName,
+    String approveTarget,
+    String overpricedApproveTarget
+) {
+
+    public String approveTarget(boolean overpriced) {
+        return overpriced ? overpricedApproveTarget : approveTarget;
+    }
+}
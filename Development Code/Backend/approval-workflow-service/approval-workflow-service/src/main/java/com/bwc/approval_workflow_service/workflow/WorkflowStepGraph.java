@@ -0,0 +1,121 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.bwc.approval_workflow_service.entity.WorkflowConfiguration;
+import com.bwc.approval_workflow_service.exception.WorkflowException;
+
+/**
+ * Compiled, immutable step graph for one workflow type.
+ * Step lookup by name is O(1) and every APPROVE transition (including the
+ * overpriced branch) is resolved once when the graph is built.
+ */
+public final class WorkflowStepGraph {
+
+    public static final String COMPLETED = "COMPLETED";
+
+    private record Route(String normal, String overpriced) {}
+
+    // Preferred APPROVE targets per workflow type; missing targets fall back to the sequential successor
+    private static final Map<String, Map<String, Route>> ROUTES = Map.of(
+            "PRE_TRAVEL", Map.of(
+                    "MANAGER_APPROVAL", new Route("TRAVEL_DESK_CHECK", "TRAVEL_DESK_CHECK"),
+                    "TRAVEL_DESK_CHECK", new Route("HR_APPROVAL", "FINANCE_APPROVAL"),
+                    "FINANCE_APPROVAL", new Route("TRAVEL_DESK_BOOKING", "TRAVEL_DESK_BOOKING"),
+                    "TRAVEL_DESK_BOOKING", new Route("HR_COMPLIANCE", "HR_COMPLIANCE"),
+                    "HR_COMPLIANCE", new Route("FINANCE_FINAL", "FINANCE_FINAL")),
+            "POST_TRAVEL", Map.of(
+                    "TRAVEL_DESK_BILL_REVIEW", new Route("FINANCE_REIMBURSEMENT", "FINANCE_REIMBURSEMENT")));
+
+    private final String workflowType;
+    private final List<WorkflowStep> steps;
+    private final Map<String, WorkflowStep> stepsByName;
+
+    private WorkflowStepGraph(String workflowType, List<WorkflowStep> steps) {
+        this.workflowType = workflowType;
+        this.steps = Collections.unmodifiableList(steps);
+        Map<String, WorkflowStep> byName = new HashMap<>();
+        for (WorkflowStep step : steps) {
+            byName.putIfAbsent(step.stepName(), step);
+        }
+        this.stepsByName = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Compile active configurations (already ordered by sequence) into a graph.
+     */
+    public static WorkflowStepGraph compile(String workflowType, List<WorkflowConfiguration> configs) {
+        Map<String, Route> routes = ROUTES.getOrDefault(workflowType, Map.of());
+        Map<String, Integer> indexByName = new HashMap<>();
+        for (int i = 0; i < configs.size(); i++) {
+            indexByName.putIfAbsent(configs.get(i).getStepName(), i);
+        }
+
+        List<WorkflowStep> steps = new ArrayList<>(configs.size());
+        for (int i = 0; i < configs.size(); i++) {
+            WorkflowConfiguration config = configs.get(i);
+            boolean last = i >= configs.size() - 1;
+            String successor = last ? null : configs.get(i + 1).getStepName();
+            Route route = routes.get(config.getStepName());
+
+            String normal = last ? null : resolve(route != null ? route.normal() : null, indexByName, successor);
+            String overpriced = last ? null : resolve(route != null ? route.overpriced() : null, indexByName, successor);
+
+            steps.add(new WorkflowStep(
+                    config.getStepName(),
+                    config.getApproverRole(),
+                    i,
+                    config.getTimeLimitHours(),
+                    Boolean.TRUE.equals(config.getAutoApproveAfterTimeout()),
+                    successor != null ? successor : COMPLETED,
+                    normal,
+                    overpriced));
+        }
+        return new WorkflowStepGraph(workflowType, steps);
+    }
+
+    private static String resolve(String preferred, Map<String, Integer> indexByName, String successor) {
+        return preferred != null && indexByName.containsKey(preferred) ? preferred : successor;
+    }
+
+    public String getWorkflowType() {
+        return workflowType;
+    }
+
+    public boolean isEmpty() {
+        return steps.isEmpty();
+    }
+
+    public List<WorkflowStep> getSteps() {
+        return steps;
+    }
+
+    public WorkflowStep firstStep() {
+        if (steps.isEmpty()) {
+            throw new WorkflowException("No workflow configuration found for type: " + workflowType);
+        }
+        return steps.get(0);
+    }
+
+    public Optional<WorkflowStep> findStep(String stepName) {
+        return Optional.ofNullable(stepName != null ? stepsByName.get(stepName) : null);
+    }
+
+    public WorkflowStep requireStep(String stepName) {
+        return findStep(stepName)
+                .orElseThrow(() -> new WorkflowException("Current step not found in configuration: " + stepName));
+    }
+
+    /**
+     * Step entered when {@code current} is approved, or empty when approval completes the workflow.
+     */
+    public Optional<WorkflowStep> nextOnApprove(WorkflowStep current, boolean overpriced) {
+        String target = current.approveTarget(overpriced);
+        return target != null ? Optional.of(stepsByName.get(target)) : Optional.empty();
+    }
+}
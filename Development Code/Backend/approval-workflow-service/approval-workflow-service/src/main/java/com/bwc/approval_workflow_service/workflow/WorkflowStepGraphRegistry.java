@@ -0,0 +1,80 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.entity.WorkflowConfiguration;
+import com.bwc.approval_workflow_service.repository.WorkflowConfigurationRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the compiled step graph of every workflow type.
+ * Readers never touch the database once a type is loaded; {@link #reload()}
+ * rebuilds all graphs and swaps them in with a single reference write.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowStepGraphRegistry {
+
+    private record Snapshot(long generation, Map<String, WorkflowStepGraph> graphs) {}
+
+    private final WorkflowConfigurationRepository configRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(new Snapshot(0, Map.of()));
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to preload workflow step graphs, will compile lazily: {}", e.getMessage());
+        }
+    }
+
+    public WorkflowStepGraph getGraph(String workflowType) {
+        Snapshot current = snapshot.get();
+        WorkflowStepGraph graph = current.graphs().get(workflowType);
+        if (graph != null) {
+            return graph;
+        }
+
+        WorkflowStepGraph compiled = WorkflowStepGraph.compile(workflowType,
+                configRepository.findByWorkflowTypeAndIsActiveTrueOrderBySequenceOrder(workflowType));
+        if (!compiled.isEmpty()) {
+            // Only install if no reload happened while compiling, otherwise the reload wins
+            snapshot.updateAndGet(s -> {
+                if (s.generation() != current.generation() || s.graphs().containsKey(workflowType)) {
+                    return s;
+                }
+                Map<String, WorkflowStepGraph> graphs = new HashMap<>(s.graphs());
+                graphs.put(workflowType, compiled);
+                return new Snapshot(s.generation(), Map.copyOf(graphs));
+            });
+        }
+        return compiled;
+    }
+
+    public void reload() {
+        Map<String, List<WorkflowConfiguration>> configsByType = configRepository.findByIsActiveTrue().stream()
+                .sorted(Comparator.comparing(WorkflowConfiguration::getSequenceOrder))
+                .collect(Collectors.groupingBy(WorkflowConfiguration::getWorkflowType, LinkedHashMap::new, Collectors.toList()));
+
+        Map<String, WorkflowStepGraph> graphs = new HashMap<>();
+        configsByType.forEach((type, configs) -> graphs.put(type, WorkflowStepGraph.compile(type, configs)));
+
+        Snapshot next = snapshot.updateAndGet(s -> new Snapshot(s.generation() + 1, Map.copyOf(graphs)));
+        log.info("✅ Workflow step graphs reloaded (generation {}): {}", next.generation(), graphs.keySet());
+    }
+}
@@ -0,0 +1,34 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published whenever a workflow row is inserted or its status, step or approver changes.
+ * {@code previous*} fields are {@code null} for newly created workflows.
+ */
+public record WorkflowTransitionEvent(
+    UUID workflowId,
+    UUID travelRequestId,
+    String workflowType,
+    String previousStatus,
+    String newStatus,
+    String previousStep,
+    String newStep,
+    String previousApproverRole,
+    String newApproverRole,
+    UUID previousApproverId,
+    UUID newApproverId,
+    LocalDateTime createdAt,
+    LocalDateTime previousCompletedAt,
+    LocalDateTime completedAt
+) {
+
+    public boolean isCreation() {
+        return previousStatus == null;
+    }
+
+    public boolean statusChanged() {
+        return previousStatus == null || !previousStatus.equals(newStatus);
+    }
+}
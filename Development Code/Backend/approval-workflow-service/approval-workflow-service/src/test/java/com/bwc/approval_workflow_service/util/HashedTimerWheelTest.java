@@ -0,0 +1,87 @@
+package com.bwc.approval_workflow_service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HashedTimerWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    void firesOnlyOnceTheDeadlineTickIsReached() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 3_000);
+
+        assertThat(wheel.advance(2_000)).isEmpty();
+        assertThat(payloads(wheel.advance(3_000))).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void deadlineSeveralRevolutionsAwayWaitsOutItsRounds() {
+        // 8 buckets: tick 20 shares bucket 4 with ticks 4 and 12, which are swept first
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("far", 20_000);
+
+        for (long now = 1_000; now < 20_000; now += 1_000) {
+            assertThat(wheel.advance(now)).as("advance to %d", now).isEmpty();
+        }
+        assertThat(wheel.size()).isEqualTo(1);
+
+        List<HashedTimerWheel.Expired<String>> expired = wheel.advance(20_000);
+        assertThat(payloads(expired)).containsExactly("far");
+        assertThat(expired.get(0).deadlineMs()).isEqualTo(20_000);
+    }
+
+    @Test
+    void longPauseReleasesEverythingDueWithoutFiringLaterDeadlines() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("t1", 1_000);
+        wheel.schedule("t5", 5_500);
+        wheel.schedule("t13", 13_000);   // same bucket as t5 after one revolution
+        wheel.schedule("t100", 100_000);
+
+        // One call spans many revolutions
+        assertThat(payloads(wheel.advance(50_000))).containsExactlyInAnyOrder("t1", "t5", "t13");
+        assertThat(wheel.size()).isEqualTo(1);
+
+        assertThat(wheel.advance(99_000)).isEmpty();
+        assertThat(payloads(wheel.advance(100_000))).containsExactly("t100");
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextAdvanceAndKeepsItsOriginalDeadline() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.advance(10_000);
+
+        wheel.schedule("late", 2_000);
+        List<HashedTimerWheel.Expired<String>> expired = wheel.advance(11_000);
+
+        assertThat(payloads(expired)).containsExactly("late");
+        assertThat(expired.get(0).deadlineMs()).isEqualTo(2_000);
+    }
+
+    @Test
+    void entryIsReturnedExactlyOnce() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        wheel.schedule("once", 2_000);
+
+        assertThat(payloads(wheel.advance(30_000))).containsExactly("once");
+        assertThat(wheel.advance(40_000)).isEmpty();
+        assertThat(wheel.advance(40_000)).isEmpty();
+    }
+
+    @Test
+    void rejectsNonPositiveTick() {
+        assertThatThrownBy(() -> new HashedTimerWheel<String>(0, 8, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> payloads(List<HashedTimerWheel.Expired<String>> expired) {
+        return expired.stream().map(HashedTimerWheel.Expired::payload).toList();
+    }
+}
@@ -0,0 +1,116 @@
+package com.bwc.approval_workflow_service.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        CountDownLatch followerWaiting = new CountDownLatch(1);
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        SingleFlight<String, String> flight = new SingleFlight<>(followerWaiting::countDown);
+
+        Future<String> leader = pool.submit(() -> flight.execute("k", () -> {
+            calls.incrementAndGet();
+            leaderRunning.countDown();
+            await(followerWaiting);
+            return "value";
+        }));
+        assertThat(leaderRunning.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> follower = pool.submit(() -> flight.execute("k", () -> {
+            calls.incrementAndGet();
+            return "not expected";
+        }));
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        assertThat(calls).hasValue(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void leaderExceptionReachesFollowersUnwrapped() throws Exception {
+        CountDownLatch followerWaiting = new CountDownLatch(1);
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("remote down");
+        SingleFlight<String, String> flight = new SingleFlight<>(followerWaiting::countDown);
+
+        Future<Throwable> leader = pool.submit(() -> thrownBy(() -> flight.execute("k", () -> {
+            leaderRunning.countDown();
+            await(followerWaiting);
+            throw failure;
+        })));
+        assertThat(leaderRunning.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Throwable> follower = pool.submit(() -> thrownBy(() -> flight.execute("k", () -> "not expected")));
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(failure);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(failure);
+    }
+
+    @Test
+    void keyIsReleasedAfterSuccessAndFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        SingleFlight<String, Integer> flight = new SingleFlight<>(() -> { });
+
+        assertThat(flight.execute("k", calls::incrementAndGet)).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+
+        assertThatThrownBy(() -> flight.execute("k", () -> {
+            throw new IllegalArgumentException("boom");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(flight.inFlight()).isZero();
+
+        // Nothing is cached: the next call runs again
+        assertThat(flight.execute("k", calls::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void differentKeysDoNotCoalesce() {
+        AtomicInteger coalesced = new AtomicInteger();
+        SingleFlight<String, String> flight = new SingleFlight<>(coalesced::incrementAndGet);
+
+        String outer = flight.execute("a", () -> flight.execute("b", () -> "inner") + "-outer");
+
+        assertThat(outer).isEqualTo("inner-outer");
+        assertThat(coalesced).hasValue(0);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("timed out waiting for follower");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+        }
+    }
+
+    private static Throwable thrownBy(Runnable call) {
+        try {
+            call.run();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedConstruction;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.bwc.approval_workflow_service.config.WorkflowProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InboxEventBroadcasterTest {
+
+    private static final Pattern ID = Pattern.compile("id:([^\\n]+)\\n");
+    private static final Pattern NAME = Pattern.compile("event:([^\\n]+)\\n");
+
+    private record Sent(String name, String id) {}
+
+    private final UUID approverId = UUID.randomUUID();
+    private final WorkflowProperties properties = new WorkflowProperties();
+    private final ThreadPoolTaskExecutor sendExecutor = new ThreadPoolTaskExecutor();
+    private final Map<SseEmitter, List<Sent>> sent = new ConcurrentHashMap<>();
+    private final CountDownLatch slowReleased = new CountDownLatch(1);
+    private volatile boolean nextIsSlow;
+    private MockedConstruction<SseEmitter> construction;
+    private InboxEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties.getInboxStream().setReplayBufferSize(4);
+        properties.getInboxStream().setSubscriberQueueSize(16);
+        sendExecutor.setCorePoolSize(2);
+        sendExecutor.initialize();
+
+        construction = mockConstruction(SseEmitter.class, (emitter, context) -> {
+            List<Sent> events = new CopyOnWriteArrayList<>();
+            boolean slow = nextIsSlow;
+            nextIsSlow = false;
+            sent.put(emitter, events);
+            doAnswer(invocation -> {
+                if (slow) {
+                    slowReleased.await(5, TimeUnit.SECONDS);
+                }
+                events.add(parse(invocation.getArgument(0)));
+                return null;
+            }).when(emitter).send(any(SseEmitter.SseEventBuilder.class));
+        });
+        broadcaster = new InboxEventBroadcaster(sendExecutor, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowReleased.countDown();
+        construction.close();
+        sendExecutor.shutdown();
+    }
+
+    @Test
+    void resumeReplaysExactlyTheMissedEventsInOrder() {
+        SseEmitter first = broadcaster.subscribe(approverId, null, null);
+        for (int i = 0; i < 3; i++) {
+            publishAssignment();
+        }
+        List<Sent> seen = awaitSent(first, 4);
+        assertThat(seen).extracting(Sent::name).containsExactly("ready", "inbox", "inbox", "inbox");
+
+        SseEmitter resumed = broadcaster.subscribe(approverId, null, seen.get(1).id());
+
+        assertThat(awaitSent(resumed, 2)).containsExactly(seen.get(2), seen.get(3));
+    }
+
+    @Test
+    void resumeFromEvictedEventAsksForResync() {
+        SseEmitter first = broadcaster.subscribe(approverId, null, null);
+        for (int i = 0; i < 6; i++) {
+            publishAssignment();
+        }
+        // The replay buffer holds 4, so the first two published events are gone
+        String evicted = awaitSent(first, 7).get(1).id();
+
+        SseEmitter resumed = broadcaster.subscribe(approverId, null, evicted);
+
+        assertThat(awaitSent(resumed, 1)).extracting(Sent::name).containsExactly("resync");
+    }
+
+    @Test
+    void idFromAnotherProcessAsksForResync() {
+        SseEmitter resumed = broadcaster.subscribe(approverId, null, "foreign-1");
+
+        assertThat(awaitSent(resumed, 1)).extracting(Sent::name).containsExactly("resync");
+    }
+
+    @Test
+    void overflowClosesOnlyTheSlowSubscriber() {
+        properties.getInboxStream().setSubscriberQueueSize(2);
+        SseEmitter fast = broadcaster.subscribe(approverId, null, null);
+        awaitSent(fast, 1);
+        SseEmitter stalled = subscribeSlow();
+
+        // The fast stream keeps up; the stalled one holds two queued events and overflows on the third
+        for (int i = 0; i < 4; i++) {
+            publishAssignment();
+            awaitSent(fast, i + 2);
+        }
+
+        verify(stalled, timeout(5000)).completeWithError(any());
+        assertThat(awaitSent(fast, 5)).extracting(Sent::name).containsExactly("ready", "inbox", "inbox", "inbox", "inbox");
+        verify(fast, never()).completeWithError(any());
+
+        // The closed stream no longer receives events; the healthy one keeps going
+        slowReleased.countDown();
+        publishAssignment();
+        assertThat(awaitSent(fast, 6)).hasSize(6);
+        assertThat(sent.get(stalled)).hasSizeLessThanOrEqualTo(1);
+    }
+
+    // The slow stream's first write (its ready event) blocks, so everything published after it queues up
+    private SseEmitter subscribeSlow() {
+        nextIsSlow = true;
+        return broadcaster.subscribe(approverId, null, null);
+    }
+
+    private void publishAssignment() {
+        broadcaster.onTransition(new WorkflowTransitionEvent(UUID.randomUUID(), UUID.randomUUID(), "PRE_TRAVEL",
+                null, "PENDING", null, "MANAGER_APPROVAL", null, "MANAGER", null, approverId, null, null, null));
+    }
+
+    private List<Sent> awaitSent(SseEmitter emitter, int count) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> sent.get(emitter).size() >= count);
+        return List.copyOf(sent.get(emitter));
+    }
+
+    private static Sent parse(SseEmitter.SseEventBuilder event) {
+        String text = event.build().stream()
+                .map(data -> String.valueOf(data.getData()))
+                .collect(Collectors.joining());
+        return new Sent(group(NAME, text), group(ID, text));
+    }
+
+    private static String group(Pattern pattern, String text) {
+        Matcher matcher = pattern.matcher(text);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+}
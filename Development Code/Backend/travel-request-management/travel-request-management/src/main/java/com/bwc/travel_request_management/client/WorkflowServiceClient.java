@@ -3,8 +3,12 @@ package com.bwc.travel_request_management.client;
 import java.util.UUID;
 
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.bwc.travel_request_management.client.dto.CreateWorkflowRequest;
@@ -24,10 +28,20 @@ public interface WorkflowServiceClient {
     void createWorkflowWithTravelRequest(
         @RequestBody TravelRequestProxyDTO travelRequest,
         @RequestParam String workflowType,
-        @RequestParam Double estimatedCost
+        @RequestParam Double estimatedCost,
+        @RequestHeader("Idempotency-Key") String idempotencyKey
     );
 
     // ✅ NEW: Notify workflow service about booking upload
     @PostMapping("/api/workflows/{workflowId}/upload-booking")
     void markBookingUploaded(@RequestParam UUID uploadedBy);
+
+    // Replaces the travel request facts snapshotted on the request's workflows
+    @PutMapping("/api/internal/travel-requests/{travelRequestId}/snapshot")
+    Integer refreshTravelRequestSnapshot(@PathVariable("travelRequestId") UUID travelRequestId,
+                                         @RequestBody TravelRequestProxyDTO travelRequest);
+
+    // Drops the workflow service's cached copy of a travel request
+    @DeleteMapping("/api/internal/cache/travel-requests/{travelRequestId}")
+    void evictTravelRequest(@PathVariable("travelRequestId") UUID travelRequestId);
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.bwc.travel_request_management.controller;
 
+import com.bwc.travel_request_management.dto.BulkStatusUpdateResultDTO;
+import com.bwc.travel_request_management.dto.TravelRequestStatusUpdateDTO;
 import com.bwc.travel_request_management.service.TravelRequestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -7,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -26,6 +29,13 @@ public class TravelRequestStatusController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/status/bulk")
+    @Operation(summary = "Update the status of many travel requests in one call")
+    public ResponseEntity<BulkStatusUpdateResultDTO> updateStatuses(
+            @RequestBody List<TravelRequestStatusUpdateDTO> updates) {
+        return ResponseEntity.ok(travelRequestService.updateStatuses(updates));
+    }
+
     @PostMapping("/{id}/actual-cost")
     @Operation(summary = "Update the actual cost of the travel")
     public ResponseEntity<Void> updateActualCost(
@@ -0,0 +1,17 @@
+package com.bwc.travel_request_management.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResultDTO {
+    private int updated;
+    private List<UUID> notFound;
+}
@@ -0,0 +1,16 @@
+package com.bwc.travel_request_management.dto;
+
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TravelRequestStatusUpdateDTO {
+    private UUID travelRequestId;
+    private String status;
+}
@@ -1,6 +1,8 @@
 package com.bwc.travel_request_management.service;
 
+import com.bwc.travel_request_management.dto.BulkStatusUpdateResultDTO;
 import com.bwc.travel_request_management.dto.TravelRequestDTO;
+import com.bwc.travel_request_management.dto.TravelRequestStatusUpdateDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -29,4 +31,7 @@ public interface TravelRequestService {
 
     // NEW
     void updateStatus(UUID id, String status);
+
+    // Applies the latest status per request in one transaction (used by approval-workflow-service)
+    BulkStatusUpdateResultDTO updateStatuses(List<TravelRequestStatusUpdateDTO> updates);
 }
@@ -1,7 +1,10 @@
 package com.bwc.travel_request_management.service.impl;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -14,8 +17,10 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 
 import com.bwc.travel_request_management.client.EmployeeServiceClient;
 import com.bwc.travel_request_management.client.WorkflowServiceClient;
+import com.bwc.travel_request_management.dto.BulkStatusUpdateResultDTO;
 import com.bwc.travel_request_management.dto.TravelRequestDTO;
 import com.bwc.travel_request_management.dto.TravelRequestProxyDTO;
+import com.bwc.travel_request_management.dto.TravelRequestStatusUpdateDTO;
 import com.bwc.travel_request_management.entity.TravelRequest;
 import com.bwc.travel_request_management.exception.ResourceNotFoundException;
 import com.bwc.travel_request_management.mapper.TravelRequestManualMapper;
@@ -81,7 +86,8 @@ public class TravelRequestServiceImpl implements TravelRequestService {
                     workflowServiceClient.createWorkflowWithTravelRequest(
                         travelRequestProxy, 
                         "PRE_TRAVEL", 
-                        saved.getEstimatedBudget()
+                        saved.getEstimatedBudget(),
+                        "travel-request:" + saved.getTravelRequestId() + ":PRE_TRAVEL"
                     );
                     log.info("✅ PRE_TRAVEL workflow initiated for request ID: {}", saved.getTravelRequestId());
                 } catch (Exception e) {
@@ -165,6 +171,7 @@ public class TravelRequestServiceImpl implements TravelRequestService {
         existing.setStatus("UPDATED");
 
         TravelRequest updated = repository.save(existing);
+        refreshWorkflowSnapshotAfterCommit(updated);
         log.info("Travel request updated successfully with ID: {}", updated.getTravelRequestId());
         return mapper.toDto(updated);
     }
@@ -184,6 +191,7 @@ public class TravelRequestServiceImpl implements TravelRequestService {
         existing.setManagerPresent(dto.isManagerPresent());
 
         TravelRequest updated = repository.save(existing);
+        refreshWorkflowSnapshotAfterCommit(updated);
         log.info("Travel request patched successfully with ID: {}", updated.getTravelRequestId());
         return mapper.toDto(updated);
     }
@@ -196,9 +204,51 @@ public class TravelRequestServiceImpl implements TravelRequestService {
             throw new ResourceNotFoundException("Travel Request not found with id: " + id);
         }
         repository.deleteById(id);
+        evictWorkflowCacheAfterCommit(id);
         log.info("Travel request deleted successfully with ID: {}", id);
     }
 
+    private void refreshWorkflowSnapshotAfterCommit(TravelRequest request) {
+        TravelRequestProxyDTO snapshot = TravelRequestProxyDTO.builder()
+                .travelRequestId(request.getTravelRequestId())
+                .employeeId(request.getEmployeeId())
+                .projectId(request.getProjectId())
+                .managerId(request.getManagerId())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .purpose(request.getPurpose())
+                .estimatedBudget(request.getEstimatedBudget())
+                .travelDestination(request.getTravelDestination())
+                .origin(request.getOrigin())
+                .build();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    workflowServiceClient.refreshTravelRequestSnapshot(snapshot.getTravelRequestId(), snapshot);
+                } catch (Exception e) {
+                    log.warn("⚠️ Failed to refresh workflow snapshot for travel request {}: {}",
+                            snapshot.getTravelRequestId(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void evictWorkflowCacheAfterCommit(UUID id) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    workflowServiceClient.evictTravelRequest(id);
+                } catch (Exception e) {
+                    // Workflow cache TTL bounds the staleness if the hook is missed
+                    log.warn("⚠️ Failed to evict travel request {} from workflow cache: {}", id, e.getMessage());
+                }
+            }
+        });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public boolean hasOverlappingRequest(UUID employeeId, LocalDate startDate, LocalDate endDate) {
@@ -226,4 +276,27 @@ public class TravelRequestServiceImpl implements TravelRequestService {
         repository.save(request);
         log.info("Travel request {} status updated to {}", id, status);
     }
+
+    @Override
+    @Transactional
+    public BulkStatusUpdateResultDTO updateStatuses(List<TravelRequestStatusUpdateDTO> updates) {
+        // Last entry wins if the same request appears more than once
+        Map<UUID, String> latest = new LinkedHashMap<>();
+        updates.forEach(u -> latest.put(u.getTravelRequestId(), u.getStatus()));
+
+        List<TravelRequest> requests = repository.findAllById(latest.keySet());
+        requests.forEach(r -> r.setStatus(latest.get(r.getTravelRequestId())));
+        repository.saveAll(requests);
+
+        List<UUID> notFound = new ArrayList<>(latest.keySet());
+        requests.forEach(r -> notFound.remove(r.getTravelRequestId()));
+        if (!notFound.isEmpty()) {
+            log.warn("Bulk status update skipped unknown travel requests: {}", notFound);
+        }
+        log.info("Bulk status update applied to {} travel request(s)", requests.size());
+        return BulkStatusUpdateResultDTO.builder()
+                .updated(requests.size())
+                .notFound(notFound)
+                .build();
+    }
 }
\ No newline at end of file